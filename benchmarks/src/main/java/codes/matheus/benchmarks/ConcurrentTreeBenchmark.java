@@ -0,0 +1,86 @@
+package codes.matheus.benchmarks;
+
+import codes.matheus.datastructures.tree.BinarySearchTree;
+import codes.matheus.datastructures.tree.ConcurrentBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of one tree shared by all benchmark threads: {@link ConcurrentBinarySearchTree} against a
+ * {@link BinarySearchTree} guarded by a global lock. Each operation is a lookup of a random key, or, with
+ * probability {@code writePercent}, an insert or a removal. Run it with {@code -t 1}, {@code -t 2}, ...
+ * up to the number of cores to see how each tree scales.
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentTreeBenchmark {
+    @Param({"100000"})
+    public int size;
+
+    @Param({"0", "10", "50"})
+    public int writePercent;
+
+    ConcurrentBinarySearchTree<Integer> concurrentTree;
+    BinarySearchTree<Integer> lockedTree;
+
+    @Setup
+    public void setup() {
+        concurrentTree = new ConcurrentBinarySearchTree<>();
+        lockedTree = new BinarySearchTree<>();
+        Random random = new Random(5);
+        for (int i = 0; i < size / 2; i++) {
+            Integer key = random.nextInt(size);
+            concurrentTree.insert(key);
+            lockedTree.insert(key);
+        }
+    }
+
+    @Benchmark
+    public boolean concurrentTree() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(size);
+        int roll = random.nextInt(200);
+        if (roll < writePercent) {
+            return concurrentTree.insert(key);
+        } else if (roll < 2 * writePercent) {
+            return concurrentTree.remove(key);
+        }
+        return concurrentTree.contains(key);
+    }
+
+    @Benchmark
+    public boolean lockedTree() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(size);
+        int roll = random.nextInt(200);
+        synchronized (lockedTree) {
+            if (roll < writePercent) {
+                lockedTree.insert(key);
+                return true;
+            } else if (roll < 2 * writePercent) {
+                lockedTree.remove(key);
+                return true;
+            }
+            return lockedTree.contains(key);
+        }
+    }
+}
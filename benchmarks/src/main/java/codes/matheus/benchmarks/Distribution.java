@@ -0,0 +1,82 @@
+package codes.matheus.benchmarks;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Random;
+
+/**
+ * Shapes of generated benchmark input.
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public enum Distribution {
+    /**
+     * Uniformly random values in [0, n).
+     */
+    RANDOM,
+    /**
+     * The values 0 to n - 1 in ascending order.
+     */
+    SORTED,
+    /**
+     * The values n - 1 to 0 in descending order.
+     */
+    REVERSED,
+    /**
+     * Values in [0, n) drawn with a Zipf distribution (exponent 1), so a few values dominate.
+     */
+    ZIPF;
+
+    /**
+     * Generates n values with this distribution. The same seed always gives the same values.
+     *
+     * @param n number of values
+     * @param seed seed of the random generator
+     * @return the generated values
+     */
+    public int @NotNull [] generate(int n, long seed) {
+        int[] values = new int[n];
+        @NotNull Random random = new Random(seed);
+
+        switch (this) {
+            case RANDOM -> {
+                for (int i = 0; i < n; i++) {
+                    values[i] = random.nextInt(Math.max(1, n));
+                }
+            }
+            case SORTED -> {
+                for (int i = 0; i < n; i++) {
+                    values[i] = i;
+                }
+            }
+            case REVERSED -> {
+                for (int i = 0; i < n; i++) {
+                    values[i] = n - 1 - i;
+                }
+            }
+            case ZIPF -> {
+                double[] cumulative = new double[n];
+                double sum = 0;
+                for (int rank = 0; rank < n; rank++) {
+                    sum += 1.0 / (rank + 1);
+                    cumulative[rank] = sum;
+                }
+                for (int i = 0; i < n; i++) {
+                    double target = random.nextDouble() * sum;
+                    int left = 0;
+                    int right = n - 1;
+                    while (left < right) {
+                        int median = (left + right) >>> 1;
+                        if (cumulative[median] < target) {
+                            left = median + 1;
+                        } else {
+                            right = median;
+                        }
+                    }
+                    values[i] = left;
+                }
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,107 @@
+package codes.matheus.benchmarks;
+
+import codes.matheus.search.BinarySearch;
+import codes.matheus.search.IntEytzingerIndex;
+import codes.matheus.search.LongEytzingerIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Eytzinger layout indexes with {@link BinarySearch#find} on the same keys and queries.
+ * The larger sizes do not fit in the CPU caches, which is where the layout is expected to pay off.
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EytzingerBenchmark {
+    static final int QUERIES = 1 << 16;
+
+    @Param({"1000", "1000000", "16000000"})
+    public int size;
+
+    @Param({"RANDOM", "ZIPF"})
+    public Distribution distribution;
+
+    int[] ints;
+    long[] longs;
+    IntEytzingerIndex intIndex;
+    LongEytzingerIndex longIndex;
+    int[] intKeys;
+    long[] longKeys;
+
+    @Setup
+    public void setup() {
+        ints = new int[size];
+        longs = new long[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = 2 * i;
+            longs[i] = 2L * i;
+        }
+        intIndex = new IntEytzingerIndex(ints);
+        longIndex = new LongEytzingerIndex(longs);
+
+        int[] generated = distribution.generate(QUERIES, 5);
+        Random random = new Random(5);
+        int spread = Math.max(1, size / QUERIES);
+        intKeys = new int[QUERIES];
+        longKeys = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            // spread the generated ranks over the whole array so the queries are not confined to a few cache lines
+            long position = ((long) generated[i] * size / QUERIES + random.nextInt(spread)) % size;
+            int key = (int) (2 * position) + (i & 1);
+            intKeys[i] = key;
+            longKeys[i] = key;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void binarySearchInt(Blackhole blackhole) {
+        for (int key : intKeys) {
+            blackhole.consume(BinarySearch.find(ints, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void eytzingerInt(Blackhole blackhole) {
+        for (int key : intKeys) {
+            blackhole.consume(intIndex.find(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void binarySearchLong(Blackhole blackhole) {
+        for (long key : longKeys) {
+            blackhole.consume(BinarySearch.find(longs, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void eytzingerLong(Blackhole blackhole) {
+        for (long key : longKeys) {
+            blackhole.consume(longIndex.find(key));
+        }
+    }
+}
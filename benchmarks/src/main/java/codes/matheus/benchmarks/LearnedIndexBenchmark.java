@@ -0,0 +1,79 @@
+package codes.matheus.benchmarks;
+
+import codes.matheus.search.BinarySearch;
+import codes.matheus.search.LongLearnedIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the learned index with {@link BinarySearch#find(long[], long)} on timestamp-like keys:
+ * increasing with random gaps, half of the queries hitting and half missing.
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LearnedIndexBenchmark {
+    static final int QUERIES = 1 << 16;
+
+    @Param({"1000000", "16000000"})
+    public int size;
+
+    @Param({"16", "64", "256"})
+    public int epsilon;
+
+    long[] keys;
+    LongLearnedIndex index;
+    long[] queries;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(11);
+        keys = new long[size];
+        long timestamp = 1_700_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            timestamp += 2 + 2 * random.nextInt(500);
+            keys[i] = timestamp;
+        }
+        index = new LongLearnedIndex(keys, epsilon);
+
+        queries = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = keys[random.nextInt(size)] + (i & 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void binarySearch(Blackhole blackhole) {
+        for (long key : queries) {
+            blackhole.consume(BinarySearch.find(keys, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void learnedIndex(Blackhole blackhole) {
+        for (long key : queries) {
+            blackhole.consume(index.find(key));
+        }
+    }
+}
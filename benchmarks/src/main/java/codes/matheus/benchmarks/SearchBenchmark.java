@@ -0,0 +1,132 @@
+package codes.matheus.benchmarks;
+
+import codes.matheus.search.BinarySearch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of every {@link BinarySearch#find} overload. The searched array always holds the even numbers
+ * 0, 2, ..., 2(n - 1); the distribution shapes the sequence of query keys, half of which miss.
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+    static final int QUERIES = 1024;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "ZIPF"})
+    public Distribution distribution;
+
+    Integer[] boxed;
+    int[] ints;
+    long[] longs;
+    double[] doubles;
+    float[] floats;
+
+    Integer[] boxedKeys;
+    int[] intKeys;
+    long[] longKeys;
+    double[] doubleKeys;
+    float[] floatKeys;
+
+    @Setup
+    public void setup() {
+        boxed = new Integer[size];
+        ints = new int[size];
+        longs = new long[size];
+        doubles = new double[size];
+        floats = new float[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = 2 * i;
+            boxed[i] = ints[i];
+            longs[i] = ints[i];
+            doubles[i] = ints[i];
+            floats[i] = ints[i];
+        }
+
+        int[] generated = distribution.generate(size, 7);
+        boxedKeys = new Integer[QUERIES];
+        intKeys = new int[QUERIES];
+        longKeys = new long[QUERIES];
+        doubleKeys = new double[QUERIES];
+        floatKeys = new float[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            int key = 2 * generated[(int) ((long) i * size / QUERIES)] + (i & 1);
+            intKeys[i] = key;
+            boxedKeys[i] = key;
+            longKeys[i] = key;
+            doubleKeys[i] = key;
+            floatKeys[i] = key;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void findGeneric(Blackhole blackhole) {
+        for (Integer key : boxedKeys) {
+            blackhole.consume(BinarySearch.find(boxed, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void findGenericRange(Blackhole blackhole) {
+        int right = boxed.length - 1;
+        for (Integer key : boxedKeys) {
+            blackhole.consume(BinarySearch.find(boxed, key, 0, right));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void findInt(Blackhole blackhole) {
+        for (int key : intKeys) {
+            blackhole.consume(BinarySearch.find(ints, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void findLong(Blackhole blackhole) {
+        for (long key : longKeys) {
+            blackhole.consume(BinarySearch.find(longs, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void findDouble(Blackhole blackhole) {
+        for (double key : doubleKeys) {
+            blackhole.consume(BinarySearch.find(doubles, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void findFloat(Blackhole blackhole) {
+        for (float key : floatKeys) {
+            blackhole.consume(BinarySearch.find(floats, key));
+        }
+    }
+}
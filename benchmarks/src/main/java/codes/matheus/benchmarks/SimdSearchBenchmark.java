@@ -0,0 +1,172 @@
+package codes.matheus.benchmarks;
+
+import codes.matheus.search.BinarySearch;
+import codes.matheus.search.SimdSearch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BinarySearch#find} with the vector tail and k-ary searches of {@link SimdSearch}.
+ * The fork enables the Vector API module through {@code jvmArgsAppend}. To measure the scalar fallback, pass
+ * {@code -jvmArgsAppend} on the command line with any other value, such as {@code -Dsimd.fallback=true}: it
+ * replaces the arguments of the annotation instead of adding to them. {@code -jvmArgsPrepend} does not work,
+ * because the module is still added after the prepended arguments.
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class SimdSearchBenchmark {
+    static final int QUERIES = 1 << 14;
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    int[] ints;
+    long[] longs;
+    float[] floats;
+    double[] doubles;
+    int[] intKeys;
+    long[] longKeys;
+    float[] floatKeys;
+    double[] doubleKeys;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(13);
+        ints = new int[size];
+        longs = new long[size];
+        floats = new float[size];
+        doubles = new double[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = 2 * i;
+            longs[i] = 2L * i;
+            floats[i] = 2 * i;
+            doubles[i] = 2 * i;
+        }
+        intKeys = new int[QUERIES];
+        longKeys = new long[QUERIES];
+        floatKeys = new float[QUERIES];
+        doubleKeys = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            intKeys[i] = random.nextInt(2 * size);
+            longKeys[i] = intKeys[i];
+            floatKeys[i] = intKeys[i];
+            doubleKeys[i] = intKeys[i];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void binarySearchInt(Blackhole blackhole) {
+        for (int key : intKeys) {
+            blackhole.consume(BinarySearch.find(ints, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void vectorTailInt(Blackhole blackhole) {
+        for (int key : intKeys) {
+            blackhole.consume(SimdSearch.find(ints, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void kAryInt(Blackhole blackhole) {
+        for (int key : intKeys) {
+            blackhole.consume(SimdSearch.findKAry(ints, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void binarySearchLong(Blackhole blackhole) {
+        for (long key : longKeys) {
+            blackhole.consume(BinarySearch.find(longs, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void vectorTailLong(Blackhole blackhole) {
+        for (long key : longKeys) {
+            blackhole.consume(SimdSearch.find(longs, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void kAryLong(Blackhole blackhole) {
+        for (long key : longKeys) {
+            blackhole.consume(SimdSearch.findKAry(longs, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void binarySearchFloat(Blackhole blackhole) {
+        for (float key : floatKeys) {
+            blackhole.consume(BinarySearch.find(floats, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void vectorTailFloat(Blackhole blackhole) {
+        for (float key : floatKeys) {
+            blackhole.consume(SimdSearch.find(floats, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void kAryFloat(Blackhole blackhole) {
+        for (float key : floatKeys) {
+            blackhole.consume(SimdSearch.findKAry(floats, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void binarySearchDouble(Blackhole blackhole) {
+        for (double key : doubleKeys) {
+            blackhole.consume(BinarySearch.find(doubles, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void vectorTailDouble(Blackhole blackhole) {
+        for (double key : doubleKeys) {
+            blackhole.consume(SimdSearch.find(doubles, key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void kAryDouble(Blackhole blackhole) {
+        for (double key : doubleKeys) {
+            blackhole.consume(SimdSearch.findKAry(doubles, key));
+        }
+    }
+}
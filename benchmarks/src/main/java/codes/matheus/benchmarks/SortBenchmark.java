@@ -0,0 +1,89 @@
+package codes.matheus.benchmarks;
+
+import codes.matheus.sort.IntroSort;
+import codes.matheus.sort.ParallelMergeSort;
+import codes.matheus.sort.RadixSort;
+import codes.matheus.sort.SelectionSort;
+import codes.matheus.sort.TimSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting benchmarks. Every invocation sorts a fresh copy of the generated input, so the copy is part of
+ * the measured time; it is the same for every algorithm.
+ *
+ * <p>{@link SelectionSort} is quadratic, so it only runs at the smaller sizes.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortBenchmark {
+    @Param({"1000", "10000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "ZIPF"})
+    public Distribution distribution;
+
+    private Integer[] boxed;
+    private int[] primitive;
+
+    @Setup
+    public void setup() {
+        primitive = distribution.generate(size, 42);
+        boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = primitive[i];
+        }
+    }
+
+    @Benchmark
+    public Integer[] selectionSort() {
+        Integer[] array = boxed.clone();
+        SelectionSort.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public Integer[] timSort() {
+        Integer[] array = boxed.clone();
+        TimSort.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public Integer[] parallelMergeSort() {
+        Integer[] array = boxed.clone();
+        ParallelMergeSort.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] introSort() {
+        int[] array = primitive.clone();
+        IntroSort.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        int[] array = primitive.clone();
+        RadixSort.sort(array);
+        return array;
+    }
+}
@@ -0,0 +1,230 @@
+package codes.matheus.benchmarks;
+
+import codes.matheus.datastructures.tree.AVLTree;
+import codes.matheus.datastructures.tree.ArrayBinaryTree;
+import codes.matheus.datastructures.tree.BinarySearchTree;
+import codes.matheus.datastructures.tree.BinaryTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link BinarySearchTree}, {@link AVLTree}, {@link BinaryTree} and {@link ArrayBinaryTree}. The distribution is the order in which
+ * keys are inserted, which decides the shape of the search tree; sorted and reversed input make it
+ * degenerate into a list, while the AVL tree stays balanced.
+ *
+ * <p>Insert benchmarks build a whole tree of {@code size} keys, one insert at a time or as a single
+ * {@link BinarySearchTree#insertAll} batch; search, contains and remove benchmarks
+ * run one operation per key against a tree built beforehand.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TreeBenchmark {
+    @Param({"1000", "10000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "ZIPF"})
+    public Distribution distribution;
+
+    Integer[] keys;
+    BinarySearchTree<Integer> searchTree;
+    BinaryTree<Integer> binaryTree;
+    AVLTree<Integer> avlTree;
+    ArrayBinaryTree<Integer> arrayTree;
+
+    @Setup(Level.Trial)
+    public void setupTrees() {
+        int[] generated = distribution.generate(size, 99);
+        keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = generated[i];
+        }
+        searchTree = buildSearchTree();
+        binaryTree = buildBinaryTree();
+        avlTree = buildAvlTree();
+        arrayTree = buildArrayTree();
+    }
+
+    BinarySearchTree<Integer> buildSearchTree() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        for (Integer key : keys) {
+            tree.insert(key);
+        }
+        return tree;
+    }
+
+    BinaryTree<Integer> buildBinaryTree() {
+        BinaryTree<Integer> tree = new BinaryTree<>();
+        for (Integer key : keys) {
+            tree.insert(key);
+        }
+        return tree;
+    }
+
+    AVLTree<Integer> buildAvlTree() {
+        AVLTree<Integer> tree = new AVLTree<>();
+        for (Integer key : keys) {
+            tree.insert(key);
+        }
+        return tree;
+    }
+
+    ArrayBinaryTree<Integer> buildArrayTree() {
+        ArrayBinaryTree<Integer> tree = new ArrayBinaryTree<>();
+        for (Integer key : keys) {
+            tree.insert(key);
+        }
+        return tree;
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> searchTreeInsert() {
+        return buildSearchTree();
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> searchTreeInsertAll() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        tree.insertAll(Arrays.asList(keys));
+        return tree;
+    }
+
+    @Benchmark
+    public void searchTreeSearch(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(searchTree.search(key));
+        }
+    }
+
+    @Benchmark
+    public void searchTreeContains(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(searchTree.contains(key));
+        }
+    }
+
+    @Benchmark
+    public AVLTree<Integer> avlTreeInsert() {
+        return buildAvlTree();
+    }
+
+    @Benchmark
+    public void avlTreeSearch(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(avlTree.search(key));
+        }
+    }
+
+    @Benchmark
+    public BinaryTree<Integer> binaryTreeInsert() {
+        return buildBinaryTree();
+    }
+
+    @Benchmark
+    public void binaryTreeSearch(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(binaryTree.search(key));
+        }
+    }
+
+    @Benchmark
+    public void binaryTreeContains(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(binaryTree.contains(key));
+        }
+    }
+
+    @Benchmark
+    public ArrayBinaryTree<Integer> arrayTreeInsert() {
+        return buildArrayTree();
+    }
+
+    @Benchmark
+    public void arrayTreeContains(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(arrayTree.contains(key));
+        }
+    }
+
+    /**
+     * Gives every remove invocation a freshly built search tree, so the measured time only covers the removals.
+     */
+    @State(Scope.Thread)
+    public static class SearchTreeRemoveState {
+        BinarySearchTree<Integer> tree;
+
+        @Setup(Level.Invocation)
+        public void rebuild(TreeBenchmark benchmark) {
+            tree = benchmark.buildSearchTree();
+        }
+    }
+
+    /**
+     * Gives every remove invocation a freshly built binary tree, so the measured time only covers the removals.
+     */
+    @State(Scope.Thread)
+    public static class BinaryTreeRemoveState {
+        BinaryTree<Integer> tree;
+
+        @Setup(Level.Invocation)
+        public void rebuild(TreeBenchmark benchmark) {
+            tree = benchmark.buildBinaryTree();
+        }
+    }
+
+    /**
+     * Gives every remove invocation a freshly built array tree, so the measured time only covers the removals.
+     */
+    @State(Scope.Thread)
+    public static class ArrayTreeRemoveState {
+        ArrayBinaryTree<Integer> tree;
+
+        @Setup(Level.Invocation)
+        public void rebuild(TreeBenchmark benchmark) {
+            tree = benchmark.buildArrayTree();
+        }
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> searchTreeRemove(SearchTreeRemoveState state) {
+        for (Integer key : keys) {
+            state.tree.remove(key);
+        }
+        return state.tree;
+    }
+
+    @Benchmark
+    public BinaryTree<Integer> binaryTreeRemove(BinaryTreeRemoveState state) {
+        for (Integer key : keys) {
+            state.tree.remove(key);
+        }
+        return state.tree;
+    }
+
+    @Benchmark
+    public ArrayBinaryTree<Integer> arrayTreeRemove(ArrayTreeRemoveState state) {
+        for (Integer key : keys) {
+            state.tree.remove(key);
+        }
+        return state.tree;
+    }
+}
@@ -0,0 +1,355 @@
+package codes.matheus.datastructures.tree;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class represents an AVL tree, a self-balancing variant of the {@link BinarySearchTree}
+ *
+ * <p>It keeps the same ordering as a Binary Search Tree, and in addition the heights of the two subtrees of
+ * every node differ by at most one. After each insertion or deletion the nodes on the path back to the root
+ * have their heights updated, and any node that became unbalanced is fixed with one or two rotations.
+ * The height therefore stays below 1.45 log2(n + 2), whatever the insertion order: inserting keys in
+ * ascending order, which turns a plain Binary Search Tree into a linked list, yields a nearly perfect tree.</p>
+ *
+ * <p>Search, insert and delete have O(log n) time complexity in the worst case, where n is the number
+ * of nodes. Worst-case space complexity is O(n) to store the nodes.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ * @param <T> The type of elements in this tree, must extend Comparable
+ */
+public final class AVLTree<T extends Comparable<@NotNull T>> implements Iterable<T> {
+
+    private @Nullable Node<T> root;
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    private int size;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param root Value to be inserted in the root
+     */
+    public AVLTree(@NotNull T root) {
+        this.root = new Node<>(root);
+        this.size = 1;
+    }
+
+    /**
+     * Constructor
+     */
+    public AVLTree() {
+    }
+
+    /**
+     * Insert a value into the tree, rebalancing it if needed
+     *
+     * @param value Value to be inserted
+     */
+    public void insert(@NotNull T value) {
+        root = insert(root, value);
+    }
+
+    private @NotNull Node<T> insert(@Nullable Node<T> node, @NotNull T value) {
+        if (node == null) {
+            size++;
+            return new Node<>(value);
+        }
+
+        int compute = value.compareTo(node.value);
+        if (compute == 0) {
+            return node;
+        } else if (compute < 0) {
+            node.left = insert(node.left, value);
+        } else {
+            node.right = insert(node.right, value);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Deletes a given value from the tree, rebalancing it if needed
+     *
+     * @param value Value to be deleted
+     */
+    public void remove(@NotNull T value) {
+        root = remove(root, value);
+    }
+
+    private @Nullable Node<T> remove(@Nullable Node<T> node, @NotNull T value) {
+        if (node == null) return null;
+
+        int compute = value.compareTo(node.value);
+        if (compute < 0) {
+            node.left = remove(node.left, value);
+        } else if (compute > 0) {
+            node.right = remove(node.right, value);
+        } else if (node.left == null || node.right == null) {
+            size--;
+            return node.left != null ? node.left : node.right;
+        } else {
+            @NotNull Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.value = successor.value;
+            node.right = remove(node.right, successor.value);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Get a node of the tree with binary search
+     *
+     * @param value Value to be searched for in the tree
+     * @return Returns the found node or returns null
+     */
+    public @Nullable Node<T> search(@NotNull T value) {
+        @Nullable Node<T> current = root;
+        while (current != null) {
+            int compute = value.compareTo(current.value);
+
+            if (compute == 0) {
+                return current;
+            } else if (compute < 0) {
+                current = current.left;
+            } else {
+                current = current.right;
+            }
+        }
+        return null;
+    }
+
+    /***
+     * Compute the number of nodes in the tree.
+     *
+     * @return Returns the size of nodes of the tree
+     */
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Compute the height of the tree, the number of nodes on its longest path from the root.
+     *
+     * @return Returns 0 for an empty tree, 1 for a single node, and so on
+     */
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    public int height() {
+        return height(root);
+    }
+
+    /**
+     * Method to check if the tree contains a value
+     *
+     * @param value Value to look for
+     * @return Returns true or false depending on whether the tree contains the value.
+     */
+    public boolean contains(@NotNull T value) {
+        return search(value) != null;
+    }
+
+    /**
+     * Method for printing the tree in order
+     * */
+    public void inOrder() {
+        print(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Method for printing the tree in pre-order
+     * */
+    public void preOrder() {
+        print(TraversalOrder.PRE_ORDER);
+    }
+
+    /**
+     * Method for printing the tree in post-order
+     * */
+    public void postOrder() {
+        print(TraversalOrder.POST_ORDER);
+    }
+
+    /**
+     * Prints the values separated by spaces, walking the tree without recursion
+     *
+     * @param order The order in which the nodes are visited
+     */
+    private void print(@NotNull TraversalOrder order) {
+        iterator(order).forEachRemaining(value -> System.out.print(value + " "));
+        System.out.println();
+    }
+
+    /**
+     * Iterate over the values of the tree in order, which is ascending order
+     *
+     * @return Returns an iterator over the values
+     */
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return iterator(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Iterate over the values of the tree in the given order.
+     * The iterator keeps only the path to the current node, so it needs O(h) memory, never recurses
+     * and allocates nothing per node. The tree must not be modified while it is in use.
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns an iterator over the values
+     */
+    public @NotNull Iterator<T> iterator(@NotNull TraversalOrder order) {
+        return TreeTraversal.iterator(root, order);
+    }
+
+    /**
+     * Create a spliterator over the values of the tree in order, which is ascending order
+     *
+     * @return Returns a spliterator over the values
+     */
+    @Override
+    public @NotNull Spliterator<T> spliterator() {
+        return spliterator(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Create a spliterator over the values of the tree in the given order.
+     * It splits by handing whole subtrees to the new spliterator, so a parallel stream walks
+     * disjoint subtrees on different threads. The tree must not be modified while it is in use.
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns a spliterator over the values
+     */
+    public @NotNull Spliterator<T> spliterator(@NotNull TraversalOrder order) {
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        if (order == TraversalOrder.IN_ORDER) {
+            characteristics |= Spliterator.SORTED;
+        }
+        return TreeTraversal.spliterator(root, size, order, characteristics);
+    }
+
+    /**
+     * Create a sequential stream of the values of the tree in order, which is ascending order
+     *
+     * @return Returns a stream of the values
+     */
+    public @NotNull Stream<T> stream() {
+        return stream(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Create a sequential stream of the values of the tree in the given order; call
+     * {@link Stream#parallel()} on it to spread the traversal across threads.
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns a stream of the values
+     */
+    public @NotNull Stream<T> stream(@NotNull TraversalOrder order) {
+        return StreamSupport.stream(spliterator(order), false);
+    }
+
+    /**
+     * Restores the balance of a node whose subtrees may differ in height by two, and updates its height.
+     *
+     * @param node The local root to rebalance
+     * @return Returns the new local root
+     */
+    private @NotNull Node<T> rebalance(@NotNull Node<T> node) {
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        update(node);
+        return node;
+    }
+
+    private @NotNull Node<T> rotateRight(@NotNull Node<T> node) {
+        @NotNull Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private @NotNull Node<T> rotateLeft(@NotNull Node<T> node) {
+        @NotNull Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(@NotNull Node<?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    private static int height(@Nullable Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * This class represents a node in an AVL tree.
+     * Besides its value and children, each node stores the height of its subtree.
+     *
+     * @author Matheus Sousa (https://github.com/omatheus-edev)
+     * @param <T> The type of element in this node, must extend Comparable
+     */
+    public final static class Node<T extends Comparable<@NotNull T>> implements TreeNode<T, Node<T>> {
+        @NotNull T value;
+        @Nullable Node<T> left;
+        @Nullable Node<T> right;
+        int height = 1;
+
+        /**
+         * Constructor of Node
+         *
+         * @param value Value of the node
+         * */
+        public Node(@NotNull T value) {
+            this.value = value;
+        }
+
+        public @NotNull T getValue() {
+            return value;
+        }
+
+        public @Nullable Node<T> getLeft() {
+            return left;
+        }
+
+        public @Nullable Node<T> getRight() {
+            return right;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "Node{" +
+                    "value=" + value +
+                    ", left=" + (left != null ? left.value : "null") +
+                    ", right=" + (right != null ? right.value : "null") +
+                    ", height=" + height +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package codes.matheus.datastructures.tree;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class represents a complete Binary Tree stored in an array, the implicit layout of a binary heap.
+ *
+ * <p>Like {@link BinaryTree}, values are placed level by level from left to right, so the tree is always
+ * complete and its shape follows from its size alone. The node at index i therefore has its children at
+ * 2i + 1 and 2i + 2 and its parent at (i - 1) / 2, and no links are stored: the values lie contiguously in
+ * level order, inserting appends to the array and the deepest node is always the last element, so deleting a
+ * value moves the last element into its place. Traversals walk the indices without a stack.</p>
+ *
+ * <p>Time Complexity:
+ * - Insert: O(1) amortized
+ * - Delete, search: O(n) to find the value, O(1) to unlink the deepest node
+ * - Traversals: O(n) with O(1) extra space</p>
+ *
+ * <p>Space Complexity: O(n) – one reference per value, with up to half the array unused after it grows.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ * @param <T> The type of elements in this tree
+ */
+public final class ArrayBinaryTree<T> implements Iterable<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private @NotNull Object @NotNull [] values;
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    private int size;
+
+    /**
+     * Constructor
+     */
+    public ArrayBinaryTree() {
+        this.values = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Parameterized constructor
+     *
+     * @param root Value to be inserted in the root
+     */
+    public ArrayBinaryTree(@NotNull T root) {
+        this();
+        insert(root);
+    }
+
+    /**
+     * Insert a value at the first free position of the last level
+     *
+     * @param value Value to be inserted
+     */
+    public void insert(@NotNull T value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(DEFAULT_CAPACITY, values.length + (values.length >> 1)));
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Deletes the first occurrence of a value in level order, replacing it with the deepest node
+     *
+     * @param value Value to be deleted
+     */
+    public void remove(@NotNull T value) {
+        int index = indexOf(value);
+        if (index < 0) return;
+
+        values[index] = values[--size];
+        values[size] = null;
+    }
+
+    /**
+     * Find the position of a value in level order
+     *
+     * @param value Value to be searched for in the tree
+     * @return Returns the index of the first node holding the value or -1 if not found
+     */
+    public int indexOf(@NotNull T value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the value of a node
+     *
+     * @param index Index of the node in level order; its children are at 2 * index + 1 and 2 * index + 2
+     * @return Returns the value of the node
+     * @throws IndexOutOfBoundsException if there is no such node
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull T get(@Range(from = 0, to = Integer.MAX_VALUE) int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + size);
+        }
+        return (T) values[index];
+    }
+
+    /**
+     * Method to check if the tree contains a value
+     *
+     * @param value Value to look for
+     * @return Returns true or false depending on whether the tree contains the value.
+     */
+    public boolean contains(@NotNull T value) {
+        return indexOf(value) >= 0;
+    }
+
+    /***
+     * Compute the number of nodes in the tree.
+     *
+     * @return Returns the size of nodes of the tree
+     */
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Compute the height of the tree, the number of nodes on its longest path from the root.
+     *
+     * @return Returns 0 for an empty tree, 1 for a single node, and so on
+     */
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    public int height() {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size);
+    }
+
+    /**
+     * Method for printing the tree in order
+     * */
+    public void inOrder() {
+        print(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Method for printing the tree in pre-order
+     * */
+    public void preOrder() {
+        print(TraversalOrder.PRE_ORDER);
+    }
+
+    /**
+     * Method for printing the tree in post-order
+     * */
+    public void postOrder() {
+        print(TraversalOrder.POST_ORDER);
+    }
+
+    /**
+     * Prints the values separated by spaces
+     *
+     * @param order The order in which the nodes are visited
+     */
+    private void print(@NotNull TraversalOrder order) {
+        iterator(order).forEachRemaining(value -> System.out.print(value + " "));
+        System.out.println();
+    }
+
+    /**
+     * Iterate over the values of the tree in order
+     *
+     * @return Returns an iterator over the values
+     */
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return iterator(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Iterate over the values of the tree in the given order.
+     * The iterator computes each next index from the current one, without a stack.
+     * The tree must not be modified while it is in use.
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns an iterator over the values
+     */
+    public @NotNull Iterator<T> iterator(@NotNull TraversalOrder order) {
+        return new IndexIterator(order);
+    }
+
+    /**
+     * Create a spliterator over the values of the tree in order
+     *
+     * @return Returns a spliterator over the values
+     */
+    @Override
+    public @NotNull Spliterator<T> spliterator() {
+        return spliterator(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Create a spliterator over the values of the tree in the given order
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns a spliterator over the values
+     */
+    public @NotNull Spliterator<T> spliterator(@NotNull TraversalOrder order) {
+        return Spliterators.spliterator(iterator(order), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Create a sequential stream of the values of the tree in order
+     *
+     * @return Returns a stream of the values
+     */
+    public @NotNull Stream<T> stream() {
+        return stream(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Create a sequential stream of the values of the tree in the given order
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns a stream of the values
+     */
+    public @NotNull Stream<T> stream(@NotNull TraversalOrder order) {
+        return StreamSupport.stream(spliterator(order), false);
+    }
+
+    /**
+     * Create a sequential stream of the values of the tree in level order, the order of the array.
+     * It reads the array sequentially and, made parallel, splits it in halves.
+     *
+     * @return Returns a stream of the values
+     */
+    public @NotNull Stream<T> levelOrderStream() {
+        return StreamSupport.stream(Spliterators.spliterator(values, 0, size, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Walks the indices of the complete tree, using that a node without a left child has no right child either.
+     */
+    private final class IndexIterator implements Iterator<T> {
+        private final @NotNull TraversalOrder order;
+        private int next;
+
+        private IndexIterator(@NotNull TraversalOrder order) {
+            this.order = order;
+            if (size == 0) {
+                this.next = -1;
+            } else {
+                this.next = order == TraversalOrder.PRE_ORDER ? 0 : leftmost(0);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NotNull T next() {
+            if (next < 0) {
+                throw new NoSuchElementException();
+            }
+            int current = next;
+            switch (order) {
+                case IN_ORDER:
+                    next = inOrderSuccessor(current);
+                    break;
+                case PRE_ORDER:
+                    next = preOrderSuccessor(current);
+                    break;
+                default:
+                    next = postOrderSuccessor(current);
+                    break;
+            }
+            return (T) values[current];
+        }
+
+        private int inOrderSuccessor(int index) {
+            if (2L * index + 2 < size) {
+                return leftmost(2 * index + 2);
+            }
+            // climb while coming from a right child; the parent of a left child is next
+            while (index > 0 && (index & 1) == 0) {
+                index = (index - 1) >>> 1;
+            }
+            return index == 0 ? -1 : (index - 1) >>> 1;
+        }
+
+        private int preOrderSuccessor(int index) {
+            if (2L * index + 1 < size) {
+                return 2 * index + 1;
+            }
+            // climb to the first left child that has a right sibling
+            while (index > 0) {
+                if ((index & 1) == 1 && index + 1 < size) {
+                    return index + 1;
+                }
+                index = (index - 1) >>> 1;
+            }
+            return -1;
+        }
+
+        private int postOrderSuccessor(int index) {
+            if (index == 0) {
+                return -1;
+            }
+            if ((index & 1) == 1 && index + 1 < size) {
+                return leftmost(index + 1);
+            }
+            return (index - 1) >>> 1;
+        }
+
+        /**
+         * The deepest node on the leftmost path from index: the first node of its subtree in order and post-order.
+         */
+        private int leftmost(int index) {
+            while (2L * index + 1 < size) {
+                index = 2 * index + 1;
+            }
+            return index;
+        }
+    }
+}
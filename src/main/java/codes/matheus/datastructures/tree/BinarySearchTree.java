@@ -4,6 +4,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * This class represents a Binary Search Tree (BST) data structure
  *
@@ -16,6 +25,9 @@ import org.jetbrains.annotations.Range;
  * </ul>
  * This ordering allows for fast lookup, addition, and removal of items.</p>
  *
+ * <p>A tree can also be built at once from sorted values with {@code fromSorted}, or grow by whole batches
+ * with {@link #insertAll(Collection)}; both produce a perfectly balanced tree without inserting values one by one.</p>
+ *
  * <p>Common operations (e.g., search, insert, delete) have O(log n) time complexity
  * in the average case, where n is the number of nodes. In the worst case (skewed tree),
  * these operations have O(n) time complexity. Worst-case space complexity is O(n)
@@ -24,7 +36,7 @@ import org.jetbrains.annotations.Range;
  * @author Matheus Sousa (https://github.com/omatheus-edev)
  * @param <T> The type of elements in this tree, must extend Comparable
  */
-public final class BinarySearchTree<T extends Comparable<@NotNull T>> {
+public final class BinarySearchTree<T extends Comparable<@NotNull T>> implements Iterable<T> {
 
     private @Nullable Node<T> root;
     @Range(from = 0, to = Integer.MAX_VALUE)
@@ -37,6 +49,7 @@ public final class BinarySearchTree<T extends Comparable<@NotNull T>> {
      */
     public BinarySearchTree(@NotNull T root) {
         this.root = new Node<>(root);
+        this.size = 1;
     }
 
     /**
@@ -45,6 +58,104 @@ public final class BinarySearchTree<T extends Comparable<@NotNull T>> {
     public BinarySearchTree() {
     }
 
+    /**
+     * Build a perfectly balanced tree from values in strictly ascending order in O(n),
+     * where inserting them one by one would take O(n^2) and leave a linked list
+     *
+     * @param sorted Values in strictly ascending order, not modified
+     * @param <T> The type of elements in the tree
+     * @return Returns a tree of height floor(log2 n) + 1 holding the values
+     * @throws IllegalArgumentException if the values are not in strictly ascending order
+     */
+    public static <T extends Comparable<@NotNull T>> @NotNull BinarySearchTree<T> fromSorted(@NotNull T @NotNull [] sorted) {
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1].compareTo(sorted[i]) >= 0) {
+                throw new IllegalArgumentException("values are not in strictly ascending order at index " + i);
+            }
+        }
+        @NotNull BinarySearchTree<T> tree = new BinarySearchTree<>();
+        tree.root = build(sorted, 0, sorted.length);
+        tree.size = sorted.length;
+        return tree;
+    }
+
+    /**
+     * Build a perfectly balanced tree from a list of values in strictly ascending order in O(n)
+     *
+     * @param sorted Values in strictly ascending order, not modified
+     * @param <T> The type of elements in the tree
+     * @return Returns a tree holding the values
+     * @throws IllegalArgumentException if the values are not in strictly ascending order
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<@NotNull T>> @NotNull BinarySearchTree<T> fromSorted(@NotNull List<? extends T> sorted) {
+        return fromSorted((T[]) sorted.toArray(new Comparable<?>[0]));
+    }
+
+    /**
+     * Build a perfectly balanced tree from an iterator over values in strictly ascending order in O(n),
+     * such as the iterator of another tree
+     *
+     * @param sorted Values in strictly ascending order, consumed until exhausted
+     * @param <T> The type of elements in the tree
+     * @return Returns a tree holding the values
+     * @throws IllegalArgumentException if the values are not in strictly ascending order
+     */
+    public static <T extends Comparable<@NotNull T>> @NotNull BinarySearchTree<T> fromSorted(@NotNull Iterator<? extends T> sorted) {
+        @NotNull List<T> values = new ArrayList<>();
+        sorted.forEachRemaining(values::add);
+        return fromSorted(values);
+    }
+
+    /**
+     * Insert a batch of values at once: the batch is sorted and merged with the values of the tree,
+     * and the tree is rebuilt perfectly balanced from the result. This takes O(n + k log k) for k values,
+     * where inserting them one by one takes O(k log n) on a balanced tree but O(k n) on a skewed one.
+     *
+     * @param values Values to be inserted, in any order; duplicates and values already in the tree are ignored
+     */
+    @SuppressWarnings("unchecked")
+    public void insertAll(@NotNull Collection<? extends T> values) {
+        if (values.isEmpty()) return;
+        @NotNull T[] batch = (T[]) values.toArray(new Comparable<?>[0]);
+        Arrays.sort(batch);
+
+        @NotNull T[] merged = (T[]) new Comparable<?>[size + batch.length];
+        @NotNull Iterator<T> existing = iterator();
+        @Nullable T next = existing.hasNext() ? existing.next() : null;
+        int count = 0;
+        int i = 0;
+        while (next != null || i < batch.length) {
+            @NotNull T value;
+            if (i == batch.length || (next != null && next.compareTo(batch[i]) <= 0)) {
+                value = next;
+                next = existing.hasNext() ? existing.next() : null;
+            } else {
+                value = batch[i++];
+            }
+            if (count == 0 || merged[count - 1].compareTo(value) != 0) {
+                merged[count++] = value;
+            }
+        }
+
+        this.root = build(merged, 0, count);
+        this.size = count;
+    }
+
+    /**
+     * Links the values of a sorted range into a balanced subtree, taking the middle value as its root
+     *
+     * @return Returns the root of the subtree or null if the range is empty
+     */
+    private static <T extends Comparable<@NotNull T>> @Nullable Node<T> build(@NotNull T @NotNull [] sorted, int from, int to) {
+        if (from >= to) return null;
+        int median = (from + to) >>> 1;
+        @NotNull Node<T> node = new Node<>(sorted[median]);
+        node.left = build(sorted, from, median);
+        node.right = build(sorted, median + 1, to);
+        return node;
+    }
+
     /**
      * Insert a vale into a node of a BST
      *
@@ -169,6 +280,15 @@ public final class BinarySearchTree<T extends Comparable<@NotNull T>> {
         return size;
     }
 
+    /**
+     * Root of the tree, for the wrappers of this package that walk it.
+     *
+     * @return the root node or null if the tree is empty
+     */
+    @Nullable Node<T> getRoot() {
+        return root;
+    }
+
     /**
      * Method to check if the tree contains a value
      *
@@ -183,60 +303,99 @@ public final class BinarySearchTree<T extends Comparable<@NotNull T>> {
      * Method for printing the tree in order
      * */
     public void inOrder() {
-        inOrder(root);
+        print(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Method for printing the tree in pre-order
+     * */
+    public void preOrder() {
+        print(TraversalOrder.PRE_ORDER);
+    }
+
+    /**
+     * Method for printing the tree in post-order
+     * */
+    public void postOrder() {
+        print(TraversalOrder.POST_ORDER);
+    }
+
+    /**
+     * Prints the values separated by spaces, walking the tree without recursion
+     *
+     * @param order The order in which the nodes are visited
+     */
+    private void print(@NotNull TraversalOrder order) {
+        iterator(order).forEachRemaining(value -> System.out.print(value + " "));
         System.out.println();
     }
 
     /**
-     * Prints leftChild - root - rightChild
+     * Iterate over the values of the tree in order, which is ascending order
      *
-     * @param node The local root of the binary tree
+     * @return Returns an iterator over the values
      */
-    private void inOrder(@Nullable Node<T> node) {
-        if (node == null) return;
-        inOrder(node.left);
-        System.out.print(node.value + " ");
-        inOrder(node.right);
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return iterator(TraversalOrder.IN_ORDER);
     }
 
     /**
-     * Method for printing the tree in pre-order
-     * */
-    public void preOrder() {
-        preOrder(root);
-        System.out.println();
+     * Iterate over the values of the tree in the given order.
+     * The iterator keeps only the path to the current node, so it needs O(h) memory, never recurses
+     * and allocates nothing per node. The tree must not be modified while it is in use.
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns an iterator over the values
+     */
+    public @NotNull Iterator<T> iterator(@NotNull TraversalOrder order) {
+        return TreeTraversal.iterator(root, order);
     }
 
     /**
-     * Prints root - leftChild - rightChild
+     * Create a spliterator over the values of the tree in order, which is ascending order
      *
-     * @param node The local root of the binary tree
+     * @return Returns a spliterator over the values
      */
-    private void preOrder(@Nullable Node<T> node) {
-        if (node == null) return;
-        System.out.print(node.value + " ");
-        preOrder(node.left);
-        preOrder(node.right);
+    @Override
+    public @NotNull Spliterator<T> spliterator() {
+        return spliterator(TraversalOrder.IN_ORDER);
     }
 
     /**
-     * Method for printing the tree in post-order
-     * */
-    public void postOrder() {
-        postOrder(root);
-        System.out.println();
+     * Create a spliterator over the values of the tree in the given order.
+     * It splits by handing whole subtrees to the new spliterator, so a parallel stream walks
+     * disjoint subtrees on different threads. The tree must not be modified while it is in use.
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns a spliterator over the values
+     */
+    public @NotNull Spliterator<T> spliterator(@NotNull TraversalOrder order) {
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        if (order == TraversalOrder.IN_ORDER) {
+            characteristics |= Spliterator.SORTED;
+        }
+        return TreeTraversal.spliterator(root, size, order, characteristics);
+    }
+
+    /**
+     * Create a sequential stream of the values of the tree in order, which is ascending order
+     *
+     * @return Returns a stream of the values
+     */
+    public @NotNull Stream<T> stream() {
+        return stream(TraversalOrder.IN_ORDER);
     }
 
     /**
-     * Prints leftChild - rightChild - root
+     * Create a sequential stream of the values of the tree in the given order; call
+     * {@link Stream#parallel()} on it to spread the traversal across threads.
      *
-     * @param node The local root of the binary tree
+     * @param order The order in which the nodes are visited
+     * @return Returns a stream of the values
      */
-    private void postOrder(@Nullable Node<T> node) {
-        if (node == null) return;
-        postOrder(node.left);
-        postOrder(node.right);
-        System.out.print(node.value + " ");
+    public @NotNull Stream<T> stream(@NotNull TraversalOrder order) {
+        return StreamSupport.stream(spliterator(order), false);
     }
 
     /**
@@ -246,7 +405,7 @@ public final class BinarySearchTree<T extends Comparable<@NotNull T>> {
      * @author Matheus Sousa (https://github.com/omatheus-edev)
      * @param <T> The type of element in this node, must extend Comparable
      */
-    public final static class Node<T extends Comparable<@NotNull T>> {
+    public final static class Node<T extends Comparable<@NotNull T>> implements TreeNode<T, Node<T>> {
         @NotNull T value;
         @Nullable Node<T> left;
         @Nullable Node<T> right;
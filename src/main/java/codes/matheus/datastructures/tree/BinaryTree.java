@@ -4,8 +4,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class represents a general Binary Tree data structure.
@@ -21,7 +25,7 @@ import java.util.Queue;
  * @author Matheus Sousa (https://github.com/omatheus-edev)
  * @param <T> The type of elements in this tree
  */
-public final class BinaryTree<T> {
+public final class BinaryTree<T> implements Iterable<T> {
 
     private @Nullable Node<T> root;
     @Range(from = 0, to = Integer.MAX_VALUE)
@@ -41,6 +45,7 @@ public final class BinaryTree<T> {
      */
     public BinaryTree(@NotNull T root) {
         this.root = new Node<>(root);
+        size = 1;
     }
 
     /**
@@ -224,60 +229,96 @@ public final class BinaryTree<T> {
      * Method for printing the tree in order
      * */
     public void inOrder() {
-        inOrder(root);
+        print(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Method for printing the tree in pre-order
+     * */
+    public void preOrder() {
+        print(TraversalOrder.PRE_ORDER);
+    }
+
+    /**
+     * Method for printing the tree in post-order
+     * */
+    public void postOrder() {
+        print(TraversalOrder.POST_ORDER);
+    }
+
+    /**
+     * Prints the values separated by spaces, walking the tree without recursion
+     *
+     * @param order The order in which the nodes are visited
+     */
+    private void print(@NotNull TraversalOrder order) {
+        iterator(order).forEachRemaining(value -> System.out.print(value + " "));
         System.out.println();
     }
 
     /**
-     * Prints leftChild - root - rightChild
+     * Iterate over the values of the tree in order
      *
-     * @param node The local root of the binary tree
+     * @return Returns an iterator over the values
      */
-    private void inOrder(@Nullable Node<T> node) {
-        if (node == null) return;
-        inOrder(node.left);
-        System.out.print(node.value + " ");
-        inOrder(node.right);
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return iterator(TraversalOrder.IN_ORDER);
     }
 
     /**
-     * Method for printing the tree in pre-order
-     * */
-    public void preOrder() {
-        preOrder(root);
-        System.out.println();
+     * Iterate over the values of the tree in the given order.
+     * The iterator keeps only the path to the current node, so it needs O(h) memory, never recurses
+     * and allocates nothing per node. The tree must not be modified while it is in use.
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns an iterator over the values
+     */
+    public @NotNull Iterator<T> iterator(@NotNull TraversalOrder order) {
+        return TreeTraversal.iterator(root, order);
     }
 
     /**
-     * Prints root - leftChild - rightChild
+     * Create a spliterator over the values of the tree in order
      *
-     * @param node The local root of the binary tree
+     * @return Returns a spliterator over the values
      */
-    private void preOrder(@Nullable Node<T> node) {
-        if (node == null) return;
-        System.out.print(node.value + " ");
-        preOrder(node.left);
-        preOrder(node.right);
+    @Override
+    public @NotNull Spliterator<T> spliterator() {
+        return spliterator(TraversalOrder.IN_ORDER);
     }
 
     /**
-     * Method for printing the tree in post-order
-     * */
-    public void postOrder() {
-        postOrder(root);
-        System.out.println();
+     * Create a spliterator over the values of the tree in the given order.
+     * It splits by handing whole subtrees to the new spliterator, so a parallel stream walks
+     * disjoint subtrees on different threads. The tree must not be modified while it is in use.
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns a spliterator over the values
+     */
+    public @NotNull Spliterator<T> spliterator(@NotNull TraversalOrder order) {
+        int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        return TreeTraversal.spliterator(root, size, order, characteristics);
+    }
+
+    /**
+     * Create a sequential stream of the values of the tree in order
+     *
+     * @return Returns a stream of the values
+     */
+    public @NotNull Stream<T> stream() {
+        return stream(TraversalOrder.IN_ORDER);
     }
 
     /**
-     * Prints leftChild - rightChild - root
+     * Create a sequential stream of the values of the tree in the given order; call
+     * {@link Stream#parallel()} on it to spread the traversal across threads.
      *
-     * @param node The local root of the binary tree
+     * @param order The order in which the nodes are visited
+     * @return Returns a stream of the values
      */
-    private void postOrder(@Nullable Node<T> node) {
-        if (node == null) return;
-        postOrder(node.left);
-        postOrder(node.right);
-        System.out.print(node.value + " ");
+    public @NotNull Stream<T> stream(@NotNull TraversalOrder order) {
+        return StreamSupport.stream(spliterator(order), false);
     }
 
     /**
@@ -287,7 +328,7 @@ public final class BinaryTree<T> {
      * @author Matheus Sousa (https://github.com/omatheus-edev)
      * @param <T> The type of element in this node
      * */
-    public final static class Node<T> {
+    public final static class Node<T> implements TreeNode<T, Node<T>> {
         @NotNull T value;
         @Nullable Node<T> left;
         @Nullable Node<T> right;
@@ -0,0 +1,195 @@
+package codes.matheus.datastructures.tree;
+
+import codes.matheus.search.BlockedBloomFilter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link BinarySearchTree} with a {@link BlockedBloomFilter} in front of its lookups.
+ *
+ * <p>Most lookups that miss are rejected by the filter with a single cache miss instead of a descent of the
+ * tree. Values inserted through this wrapper are added to the filter as well. A Bloom filter cannot forget a
+ * value, so values removed from the tree stay in the filter and later lookups for them count as false
+ * positives; rebuild the wrapper once removals have driven the rate too high.</p>
+ *
+ * <p>The filter hashes the values, while the tree matches them with {@code compareTo}. Values that compare as
+ * equal must therefore hash equally, or a value present in the tree could be ruled out by the filter. The
+ * constructors without a key hash use {@link Object#hashCode()}, which is only correct when the ordering is
+ * consistent with equals; for other types, such as {@link java.math.BigDecimal}, pass a key hash that agrees
+ * with the ordering.</p>
+ *
+ * <p>The tree must only be changed through this wrapper while it is wrapped.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ * @param <T> The type of elements in this tree, must extend Comparable
+ */
+public final class BloomFilteredTree<T extends Comparable<@NotNull T>> {
+    private final @NotNull BinarySearchTree<T> tree;
+    private final @NotNull BlockedBloomFilter filter;
+    private final @NotNull ToLongFunction<? super T> keyHash;
+    private final @NotNull LongAdder hits = new LongAdder();
+    private final @NotNull LongAdder misses = new LongAdder();
+    private final @NotNull LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Wraps a tree with a filter sized for a target false-positive rate, hashing values with
+     * {@link Object#hashCode()}; the ordering of the values must be consistent with equals.
+     *
+     * @param tree the tree to wrap
+     * @param expectedSize number of values the tree is expected to hold
+     * @param falsePositiveRate wanted probability that a missing value is searched anyway, in (0, 1)
+     */
+    public BloomFilteredTree(@NotNull BinarySearchTree<T> tree, int expectedSize, double falsePositiveRate) {
+        this(tree, expectedSize, falsePositiveRate, Object::hashCode);
+    }
+
+    /**
+     * Wraps a tree with a filter sized for a target false-positive rate.
+     *
+     * @param tree the tree to wrap
+     * @param expectedSize number of values the tree is expected to hold
+     * @param falsePositiveRate wanted probability that a missing value is searched anyway, in (0, 1)
+     * @param keyHash hash of a value; values that compare as equal must have equal hashes
+     */
+    public BloomFilteredTree(@NotNull BinarySearchTree<T> tree, int expectedSize, double falsePositiveRate, @NotNull ToLongFunction<? super T> keyHash) {
+        this(tree, BlockedBloomFilter.withFalsePositiveRate(Math.max(expectedSize, tree.size()), falsePositiveRate), keyHash);
+    }
+
+    /**
+     * Wraps a tree with a filter of a given number of bits per key, hashing values with
+     * {@link Object#hashCode()}; the ordering of the values must be consistent with equals.
+     *
+     * @param tree the tree to wrap
+     * @param expectedSize number of values the tree is expected to hold
+     * @param bitsPerKey bits of filter per value
+     */
+    public BloomFilteredTree(@NotNull BinarySearchTree<T> tree, int expectedSize, int bitsPerKey) {
+        this(tree, expectedSize, bitsPerKey, Object::hashCode);
+    }
+
+    /**
+     * Wraps a tree with a filter of a given number of bits per key.
+     *
+     * @param tree the tree to wrap
+     * @param expectedSize number of values the tree is expected to hold
+     * @param bitsPerKey bits of filter per value
+     * @param keyHash hash of a value; values that compare as equal must have equal hashes
+     */
+    public BloomFilteredTree(@NotNull BinarySearchTree<T> tree, int expectedSize, int bitsPerKey, @NotNull ToLongFunction<? super T> keyHash) {
+        this(tree, BlockedBloomFilter.withBitsPerKey(Math.max(expectedSize, tree.size()), bitsPerKey), keyHash);
+    }
+
+    private BloomFilteredTree(@NotNull BinarySearchTree<T> tree, @NotNull BlockedBloomFilter filter, @NotNull ToLongFunction<? super T> keyHash) {
+        this.tree = tree;
+        this.filter = filter;
+        this.keyHash = keyHash;
+
+        @NotNull ArrayDeque<BinarySearchTree.Node<T>> pending = new ArrayDeque<>();
+        @Nullable BinarySearchTree.Node<T> root = tree.getRoot();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            @NotNull BinarySearchTree.Node<T> node = pending.pop();
+            filter.add(keyHash.applyAsLong(node.value));
+            if (node.left != null) pending.push(node.left);
+            if (node.right != null) pending.push(node.right);
+        }
+    }
+
+    /**
+     * Insert a value into the tree and the filter
+     *
+     * @param value Value to be inserted
+     */
+    public void insert(@NotNull T value) {
+        tree.insert(value);
+        filter.add(keyHash.applyAsLong(value));
+    }
+
+    /**
+     * Remove a value from the tree; it stays in the filter
+     *
+     * @param value Value to be removed
+     */
+    public void remove(@NotNull T value) {
+        tree.remove(value);
+    }
+
+    /**
+     * Method to check if the tree contains a value, skipping the descent when the filter rules it out
+     *
+     * @param value Value to look for
+     * @return Returns true or false depending on whether the tree contains the value.
+     */
+    public boolean contains(@NotNull T value) {
+        if (!filter.mightContain(keyHash.applyAsLong(value))) {
+            misses.increment();
+            return false;
+        }
+        if (tree.contains(value)) {
+            hits.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Returns the wrapped tree, which must only be changed through this wrapper.
+     *
+     * @return the wrapped tree
+     */
+    public @NotNull BinarySearchTree<T> getTree() {
+        return tree;
+    }
+
+    /**
+     * Returns the filter in front of the tree, for example to check its size or false-positive rate.
+     *
+     * @return the filter holding every value of the tree
+     */
+    public @NotNull BlockedBloomFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Counts the lookups that found their value.
+     *
+     * @return number of lookups that found their value
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Counts the lookups the filter rejected without searching the tree.
+     *
+     * @return number of lookups the filter answered alone
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Counts the lookups the filter let through that the search then did not find.
+     *
+     * @return number of lookups the filter let through that did not find their value
+     */
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * Clears every counter.
+     */
+    public void resetCounters() {
+        hits.reset();
+        misses.reset();
+        falsePositives.reset();
+    }
+}
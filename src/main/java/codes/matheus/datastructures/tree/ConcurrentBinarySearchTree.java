@@ -0,0 +1,357 @@
+package codes.matheus.datastructures.tree;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class represents a thread-safe Binary Search Tree whose reads never block
+ *
+ * <p>The nodes are immutable. An update copies the path from the root to the node it changes, leaving the
+ * rest of the tree shared, and publishes the new root with a single compare-and-set; if another update was
+ * published in the meantime, it starts over from the new root. A read takes the current root once and walks
+ * nodes that no thread will ever modify, so searches are wait-free: they never lock, never retry and never
+ * observe a half-done update. Every operation takes effect atomically, either when the root is read or when
+ * the compare-and-set succeeds, so the tree is linearizable, and its iterators and streams walk a consistent
+ * snapshot that later updates do not affect.</p>
+ *
+ * <p>Since each update copies a whole path, the tree is kept balanced like an {@link AVLTree}: paths stay
+ * O(log n) long whatever the insertion order, including the sorted order that turns a plain Binary Search Tree
+ * into a linked list.</p>
+ *
+ * <p>Time Complexity:
+ * - Search: O(log n)
+ * - Insert and delete: O(log n) per attempt, repeated when a concurrent update wins the race</p>
+ *
+ * <p>Space Complexity: O(n) to store the nodes, plus O(log n) nodes of garbage per update.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ * @param <T> The type of elements in this tree, must extend Comparable
+ */
+public final class ConcurrentBinarySearchTree<T extends Comparable<@NotNull T>> implements Iterable<T> {
+
+    private final @NotNull AtomicReference<Snapshot<T>> state = new AtomicReference<>(new Snapshot<>(null, 0));
+
+    /**
+     * Parameterized constructor
+     *
+     * @param root Value to be inserted in the root
+     */
+    public ConcurrentBinarySearchTree(@NotNull T root) {
+        insert(root);
+    }
+
+    /**
+     * Constructor
+     */
+    public ConcurrentBinarySearchTree() {
+    }
+
+    /**
+     * Insert a value into the tree
+     *
+     * @param value Value to be inserted
+     * @return Returns true if the value was inserted, false if the tree already contained it
+     */
+    public boolean insert(@NotNull T value) {
+        while (true) {
+            @NotNull Snapshot<T> current = state.get();
+            @NotNull Node<T> root = insert(current.root(), value);
+            if (root == current.root()) {
+                return false;
+            }
+            if (state.compareAndSet(current, new Snapshot<>(root, current.size() + 1))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Deletes a given value from the tree
+     *
+     * @param value Value to be deleted
+     * @return Returns true if the value was deleted, false if the tree did not contain it
+     */
+    public boolean remove(@NotNull T value) {
+        while (true) {
+            @NotNull Snapshot<T> current = state.get();
+            @Nullable Node<T> root = remove(current.root(), value);
+            if (root == current.root()) {
+                return false;
+            }
+            if (state.compareAndSet(current, new Snapshot<>(root, current.size() - 1))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Get a node of the tree with binary search, without blocking
+     *
+     * @param value Value to be searched for in the tree
+     * @return Returns the found node or returns null
+     */
+    public @Nullable Node<T> search(@NotNull T value) {
+        @Nullable Node<T> current = state.get().root();
+        while (current != null) {
+            int compute = value.compareTo(current.value);
+
+            if (compute == 0) {
+                return current;
+            } else if (compute < 0) {
+                current = current.left;
+            } else {
+                current = current.right;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method to check if the tree contains a value, without blocking
+     *
+     * @param value Value to look for
+     * @return Returns true or false depending on whether the tree contains the value.
+     */
+    public boolean contains(@NotNull T value) {
+        return search(value) != null;
+    }
+
+    /***
+     * Compute the number of nodes in the tree.
+     *
+     * @return Returns the size of nodes of the tree
+     */
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    public int size() {
+        return state.get().size();
+    }
+
+    /**
+     * Compute the height of the tree, the number of nodes on its longest path from the root.
+     *
+     * @return Returns 0 for an empty tree, 1 for a single node, and so on
+     */
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    public int height() {
+        return height(state.get().root());
+    }
+
+    /**
+     * Iterate over a snapshot of the values of the tree in ascending order
+     *
+     * @return Returns an iterator over the values
+     */
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return iterator(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Iterate over a snapshot of the values of the tree in the given order.
+     * Updates made while iterating are not seen by the iterator.
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns an iterator over the values
+     */
+    public @NotNull Iterator<T> iterator(@NotNull TraversalOrder order) {
+        return TreeTraversal.iterator(state.get().root(), order);
+    }
+
+    /**
+     * Create a spliterator over a snapshot of the values of the tree in ascending order
+     *
+     * @return Returns a spliterator over the values
+     */
+    @Override
+    public @NotNull Spliterator<T> spliterator() {
+        return spliterator(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Create a spliterator over a snapshot of the values of the tree in the given order.
+     * It splits by handing whole subtrees to the new spliterator.
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns a spliterator over the values
+     */
+    public @NotNull Spliterator<T> spliterator(@NotNull TraversalOrder order) {
+        @NotNull Snapshot<T> snapshot = state.get();
+        int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        if (order == TraversalOrder.IN_ORDER) {
+            characteristics |= Spliterator.SORTED;
+        }
+        return TreeTraversal.spliterator(snapshot.root(), snapshot.size(), order, characteristics);
+    }
+
+    /**
+     * Create a sequential stream of a snapshot of the values of the tree in ascending order
+     *
+     * @return Returns a stream of the values
+     */
+    public @NotNull Stream<T> stream() {
+        return stream(TraversalOrder.IN_ORDER);
+    }
+
+    /**
+     * Create a sequential stream of a snapshot of the values of the tree in the given order; call
+     * {@link Stream#parallel()} on it to spread the traversal across threads.
+     *
+     * @param order The order in which the nodes are visited
+     * @return Returns a stream of the values
+     */
+    public @NotNull Stream<T> stream(@NotNull TraversalOrder order) {
+        return StreamSupport.stream(spliterator(order), false);
+    }
+
+    /**
+     * Copies the path to the position of the value and links a new node there
+     *
+     * @return Returns the new local root, or the same node if the value is already in the subtree
+     */
+    private static <T extends Comparable<@NotNull T>> @NotNull Node<T> insert(@Nullable Node<T> node, @NotNull T value) {
+        if (node == null) {
+            return new Node<>(value, null, null);
+        }
+
+        int compute = value.compareTo(node.value);
+        if (compute < 0) {
+            @NotNull Node<T> left = insert(node.left, value);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        } else if (compute > 0) {
+            @NotNull Node<T> right = insert(node.right, value);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        }
+        return node;
+    }
+
+    /**
+     * Copies the path to the node of the value and unlinks it
+     *
+     * @return Returns the new local root, or the same node if the value is not in the subtree
+     */
+    private static <T extends Comparable<@NotNull T>> @Nullable Node<T> remove(@Nullable Node<T> node, @NotNull T value) {
+        if (node == null) return null;
+
+        int compute = value.compareTo(node.value);
+        if (compute < 0) {
+            @Nullable Node<T> left = remove(node.left, value);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        } else if (compute > 0) {
+            @Nullable Node<T> right = remove(node.right, value);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+
+        @NotNull Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, removeMin(node.right));
+    }
+
+    private static <T extends Comparable<@NotNull T>> @Nullable Node<T> removeMin(@NotNull Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.value, removeMin(node.left), node.right);
+    }
+
+    /**
+     * Creates a node from a value and two subtrees whose heights may differ by two,
+     * rotating it as an AVL tree would so that they differ by at most one
+     *
+     * @return Returns the new local root
+     */
+    private static <T extends Comparable<@NotNull T>> @NotNull Node<T> balance(@NotNull T value, @Nullable Node<T> left, @Nullable Node<T> right) {
+        int balance = height(left) - height(right);
+        if (balance > 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            @NotNull Node<T> pivot = left.right;
+            return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left), new Node<>(value, pivot.right, right));
+        }
+        if (balance < -1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            @NotNull Node<T> pivot = right.left;
+            return new Node<>(pivot.value, new Node<>(value, left, pivot.left), new Node<>(right.value, pivot.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int height(@Nullable Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A published version of the tree: its root and the number of nodes reachable from it.
+     */
+    private record Snapshot<T extends Comparable<@NotNull T>>(@Nullable Node<T> root, int size) {
+    }
+
+    /**
+     * This class represents an immutable node in a concurrent tree.
+     * Besides its value and children, each node stores the height of its subtree.
+     *
+     * @author Matheus Sousa (https://github.com/omatheus-edev)
+     * @param <T> The type of element in this node, must extend Comparable
+     */
+    public final static class Node<T extends Comparable<@NotNull T>> implements TreeNode<T, Node<T>> {
+        final @NotNull T value;
+        final @Nullable Node<T> left;
+        final @Nullable Node<T> right;
+        final int height;
+
+        /**
+         * Constructor of Node
+         *
+         * @param value Value of the node
+         * @param left Left subtree
+         * @param right Right subtree
+         * */
+        Node(@NotNull T value, @Nullable Node<T> left, @Nullable Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = 1 + Math.max(height(left), height(right));
+        }
+
+        public @NotNull T getValue() {
+            return value;
+        }
+
+        public @Nullable Node<T> getLeft() {
+            return left;
+        }
+
+        public @Nullable Node<T> getRight() {
+            return right;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "Node{" +
+                    "value=" + value +
+                    ", left=" + (left != null ? left.value : "null") +
+                    ", right=" + (right != null ? right.value : "null") +
+                    ", height=" + height +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package codes.matheus.datastructures.tree;
+
+/**
+ * The order in which a traversal visits the nodes of a binary tree.
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public enum TraversalOrder {
+    /**
+     * leftChild - root - rightChild; ascending order in a search tree.
+     */
+    IN_ORDER,
+    /**
+     * root - leftChild - rightChild
+     */
+    PRE_ORDER,
+    /**
+     * leftChild - rightChild - root
+     */
+    POST_ORDER
+}
@@ -0,0 +1,19 @@
+package codes.matheus.datastructures.tree;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The links of a node, shared by the node classes of the trees so that {@link TreeTraversal} can walk any of them.
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ * @param <T> The type of element in the node
+ * @param <N> The type of the node itself
+ */
+interface TreeNode<T, N extends TreeNode<T, N>> {
+    @NotNull T getValue();
+
+    @Nullable N getLeft();
+
+    @Nullable N getRight();
+}
@@ -0,0 +1,269 @@
+package codes.matheus.datastructures.tree;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Iterative traversals shared by the trees of this package.
+ *
+ * <p>The iterators keep the path still to visit on an explicit stack, so they never recurse and allocate nothing
+ * per node: their memory is O(h), where h is the height of the tree. The spliterators split a traversal by
+ * subtrees: a subtree in the sequence still to visit is replaced by its left subtree, its root and its right
+ * subtree, arranged in the traversal order, and the first half of the sequence is handed to the new spliterator.
+ * A parallel stream therefore gives each thread a whole subtree, which it walks with one of the iterators.</p>
+ *
+ * <p>The tree must not be modified while a traversal is in progress.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+final class TreeTraversal {
+    private TreeTraversal() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    static <T, N extends TreeNode<T, N>> @NotNull Iterator<T> iterator(@Nullable N root, @NotNull TraversalOrder order) {
+        switch (order) {
+            case IN_ORDER:
+                return new InOrderIterator<>(root);
+            case PRE_ORDER:
+                return new PreOrderIterator<>(root);
+            default:
+                return new PostOrderIterator<>(root);
+        }
+    }
+
+    static <T, N extends TreeNode<T, N>> @NotNull Spliterator<T> spliterator(@Nullable N root, int size, @NotNull TraversalOrder order, int characteristics) {
+        return new NodeSpliterator<>(root, size, order, characteristics);
+    }
+
+    private static final class InOrderIterator<T, N extends TreeNode<T, N>> implements Iterator<T> {
+        private final @NotNull ArrayDeque<N> stack = new ArrayDeque<>();
+
+        private InOrderIterator(@Nullable N root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public @NotNull T next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            @NotNull N node = stack.pop();
+            pushLeftSpine(node.getRight());
+            return node.getValue();
+        }
+
+        private void pushLeftSpine(@Nullable N node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.getLeft();
+            }
+        }
+    }
+
+    private static final class PreOrderIterator<T, N extends TreeNode<T, N>> implements Iterator<T> {
+        private final @NotNull ArrayDeque<N> stack = new ArrayDeque<>();
+
+        private PreOrderIterator(@Nullable N root) {
+            if (root != null) {
+                stack.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public @NotNull T next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            @NotNull N node = stack.pop();
+            if (node.getRight() != null) stack.push(node.getRight());
+            if (node.getLeft() != null) stack.push(node.getLeft());
+            return node.getValue();
+        }
+    }
+
+    private static final class PostOrderIterator<T, N extends TreeNode<T, N>> implements Iterator<T> {
+        private final @NotNull ArrayDeque<N> stack = new ArrayDeque<>();
+
+        private PostOrderIterator(@Nullable N root) {
+            descend(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public @NotNull T next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            @NotNull N node = stack.pop();
+            // a node is emitted after both subtrees, so the next one is the parent or the first leaf of its right subtree
+            @Nullable N parent = stack.peek();
+            if (parent != null && parent.getLeft() == node) {
+                descend(parent.getRight());
+            }
+            return node.getValue();
+        }
+
+        /**
+         * Pushes the path from node to the first node it emits: left when possible, otherwise right.
+         */
+        private void descend(@Nullable N node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.getLeft() != null ? node.getLeft() : node.getRight();
+            }
+        }
+    }
+
+    /**
+     * A spliterator over a sequence of whole subtrees and single nodes still to visit.
+     */
+    private static final class NodeSpliterator<T, N extends TreeNode<T, N>> implements Spliterator<T> {
+        private final @NotNull TraversalOrder order;
+        private final int characteristics;
+        /**
+         * Nodes still to visit; a node stands for its whole subtree unless it is also in {@link #singles}.
+         * Nodes do not override equals, so the deques compare them by identity.
+         */
+        private final @NotNull ArrayDeque<N> pending = new ArrayDeque<>();
+        private final @NotNull ArrayDeque<N> singles = new ArrayDeque<>();
+        private @Nullable Iterator<T> current;
+        private long estimate;
+
+        private NodeSpliterator(@Nullable N root, long estimate, @NotNull TraversalOrder order, int characteristics) {
+            this.order = order;
+            this.characteristics = characteristics;
+            this.estimate = estimate;
+            if (root != null) {
+                pending.add(root);
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(@NotNull Consumer<? super T> action) {
+            while (current == null || !current.hasNext()) {
+                @Nullable N node = pending.poll();
+                if (node == null) {
+                    return false;
+                }
+                if (singles.remove(node)) {
+                    action.accept(node.getValue());
+                    return true;
+                }
+                current = iterator(node, order);
+            }
+            action.accept(current.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(@NotNull Consumer<? super T> action) {
+            if (current != null) {
+                current.forEachRemaining(action);
+                current = null;
+            }
+            for (@Nullable N node = pending.poll(); node != null; node = pending.poll()) {
+                if (singles.remove(node)) {
+                    action.accept(node.getValue());
+                } else {
+                    iterator(node, order).forEachRemaining(action);
+                }
+            }
+        }
+
+        @Override
+        public @Nullable Spliterator<T> trySplit() {
+            if (current != null && current.hasNext()) {
+                return null;
+            }
+            if (pending.size() == 1 && !singles.contains(pending.peek())) {
+                expand(pending.poll());
+            }
+            if (pending.size() < 2) {
+                return null;
+            }
+
+            @NotNull NodeSpliterator<T, N> prefix = new NodeSpliterator<>(null, estimate >>> 1, order, characteristics);
+            for (int i = pending.size() / 2; i > 0; i--) {
+                @NotNull N node = pending.poll();
+                prefix.pending.add(node);
+                if (singles.remove(node)) {
+                    prefix.singles.add(node);
+                }
+            }
+            estimate -= prefix.estimate;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+
+        @Override
+        public @Nullable Comparator<? super T> getComparator() {
+            if (hasCharacteristics(SORTED)) {
+                return null;
+            }
+            throw new IllegalStateException();
+        }
+
+        /**
+         * Replaces a subtree by its left subtree, its root and its right subtree, in traversal order.
+         */
+        private void expand(@NotNull N node) {
+            @Nullable N left = node.getLeft();
+            @Nullable N right = node.getRight();
+            singles.add(node);
+            switch (order) {
+                case IN_ORDER:
+                    addIfPresent(left);
+                    pending.add(node);
+                    addIfPresent(right);
+                    break;
+                case PRE_ORDER:
+                    pending.add(node);
+                    addIfPresent(left);
+                    addIfPresent(right);
+                    break;
+                default:
+                    addIfPresent(left);
+                    addIfPresent(right);
+                    pending.add(node);
+                    break;
+            }
+        }
+
+        private void addIfPresent(@Nullable N node) {
+            if (node != null) {
+                pending.add(node);
+            }
+        }
+    }
+}
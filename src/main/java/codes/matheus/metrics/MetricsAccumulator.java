@@ -0,0 +1,58 @@
+package codes.matheus.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe {@link MetricsSink} that keeps running totals of every recorded call.
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class MetricsAccumulator implements MetricsSink {
+    private final @NotNull LongAdder calls = new LongAdder();
+    private final @NotNull LongAdder comparisons = new LongAdder();
+    private final @NotNull LongAdder swaps = new LongAdder();
+    private final @NotNull LongAdder probes = new LongAdder();
+    private final @NotNull LongAdder elapsedNanos = new LongAdder();
+
+    @Override
+    public void record(@NotNull OperationMetrics metrics) {
+        calls.increment();
+        comparisons.add(metrics.getComparisons());
+        swaps.add(metrics.getSwaps());
+        probes.add(metrics.getProbes());
+        elapsedNanos.add(metrics.getElapsedNanos());
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos.sum();
+    }
+
+    /**
+     * Clears every total.
+     */
+    public void reset() {
+        calls.reset();
+        comparisons.reset();
+        swaps.reset();
+        probes.reset();
+        elapsedNanos.reset();
+    }
+}
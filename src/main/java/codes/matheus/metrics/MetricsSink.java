@@ -0,0 +1,21 @@
+package codes.matheus.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives the metrics of every call made through an instrumented algorithm.
+ *
+ * <p>Instrumentation is opt-in: only the {@code Instrumented*} variants report to a sink, the regular
+ * algorithms carry no counters at all. Implementations may be called from several threads at once.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+@FunctionalInterface
+public interface MetricsSink {
+    /**
+     * Records the metrics of one finished call.
+     *
+     * @param metrics the counters collected during the call
+     */
+    void record(@NotNull OperationMetrics metrics);
+}
@@ -0,0 +1,76 @@
+package codes.matheus.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+/**
+ * The counters collected during a single call of an instrumented algorithm.
+ *
+ * <ul>
+ * <li>comparisons: number of key comparisons performed</li>
+ * <li>swaps: number of element exchanges</li>
+ * <li>probes: number of array positions inspected by a search</li>
+ * <li>elapsedNanos: wall-clock duration of the call</li>
+ * </ul>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class OperationMetrics {
+    private final @NotNull String operation;
+    private final long comparisons;
+    private final long swaps;
+    private final long probes;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor
+     *
+     * @param operation name of the algorithm that produced the metrics
+     * @param comparisons number of key comparisons
+     * @param swaps number of element exchanges
+     * @param probes number of positions inspected
+     * @param elapsedNanos duration of the call in nanoseconds
+     */
+    public OperationMetrics(@NotNull String operation,
+                            @Range(from = 0, to = Long.MAX_VALUE) long comparisons,
+                            @Range(from = 0, to = Long.MAX_VALUE) long swaps,
+                            @Range(from = 0, to = Long.MAX_VALUE) long probes,
+                            @Range(from = 0, to = Long.MAX_VALUE) long elapsedNanos) {
+        this.operation = operation;
+        this.comparisons = comparisons;
+        this.swaps = swaps;
+        this.probes = probes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public @NotNull String getOperation() {
+        return operation;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getSwaps() {
+        return swaps;
+    }
+
+    public long getProbes() {
+        return probes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "OperationMetrics{" +
+                "operation=" + operation +
+                ", comparisons=" + comparisons +
+                ", swaps=" + swaps +
+                ", probes=" + probes +
+                ", elapsedNanos=" + elapsedNanos +
+                '}';
+    }
+}
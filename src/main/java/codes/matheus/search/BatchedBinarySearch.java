@@ -0,0 +1,497 @@
+package codes.matheus.search;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Kernels behind {@code BinarySearch.findAll}: searches a whole batch of keys in one sorted array.
+ *
+ * <p>Ascending keys are searched merge style: each search starts where the previous one ended and
+ * gallops forward, so the batch costs O(m log(n / m)) instead of O(m log n). Unordered keys are searched
+ * in groups whose searches advance in lock step, which lets the CPU have several cache misses in flight
+ * at once. Large batches are split into ranges of keys searched in parallel on the common
+ * {@link ForkJoinPool}.</p>
+ *
+ * <p>Each result is the index of the first occurrence of the key or -1 if not found.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+final class BatchedBinarySearch {
+    /**
+     * Number of searches advanced together in the interleaved kernel.
+     */
+    private static final int GROUP = 8;
+
+    /**
+     * Number of keys under which a batch is not split across threads.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private BatchedBinarySearch() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    static <T extends Comparable<@NotNull T>> void findAll(@NotNull T[] array, @NotNull T[] keys, int @NotNull [] out) {
+        checkOutput(keys.length, out.length);
+        if (keys.length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new SplitTask((from, to) -> findRange(array, keys, out, from, to), 0, keys.length));
+        } else {
+            findRange(array, keys, out, 0, keys.length);
+        }
+    }
+
+    private static <T extends Comparable<@NotNull T>> void findRange(T[] array, T[] keys, int[] out, int from, int to) {
+        boolean sorted = true;
+        for (int i = from + 1; i < to && sorted; i++) {
+            sorted = !(keys[i].compareTo(keys[i - 1]) < 0);
+        }
+        if (sorted) {
+            mergeSearch(array, keys, out, from, to);
+        } else {
+            interleavedSearch(array, keys, out, from, to);
+        }
+    }
+
+    /**
+     * Searches ascending keys, galloping forward from the position of the previous key.
+     */
+    private static <T extends Comparable<@NotNull T>> void mergeSearch(T[] array, T[] keys, int[] out, int from, int to) {
+        int n = array.length;
+        int position = 0;
+        for (int i = from; i < to; i++) {
+            T key = keys[i];
+            int low = position;
+            int step = 1;
+            while (low + step < n && array[low + step].compareTo(key) < 0) {
+                low += step;
+                step <<= 1;
+            }
+            int high = Math.min(low + step, n);
+            while (low < high) {
+                int median = (low + high) >>> 1;
+                if (array[median].compareTo(key) < 0) {
+                    low = median + 1;
+                } else {
+                    high = median;
+                }
+            }
+            position = low;
+            out[i] = position < n && array[position].compareTo(key) == 0 ? position : -1;
+        }
+    }
+
+    /**
+     * Searches unordered keys in groups, advancing every search of a group by one level per round so their
+     * memory accesses are independent and can overlap.
+     */
+    private static <T extends Comparable<@NotNull T>> void interleavedSearch(T[] array, T[] keys, int[] out, int from, int to) {
+        int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, from, to, -1);
+            return;
+        }
+        int[] base = new int[GROUP];
+        for (int start = from; start < to; start += GROUP) {
+            int count = Math.min(GROUP, to - start);
+            Arrays.fill(base, 0);
+
+            int length = n;
+            while (length > 1) {
+                int half = length >>> 1;
+                for (int g = 0; g < count; g++) {
+                    int candidate = base[g] + half;
+                    base[g] = array[candidate].compareTo(keys[start + g]) < 0 ? candidate : base[g];
+                }
+                length -= half;
+            }
+
+            for (int g = 0; g < count; g++) {
+                int position = base[g];
+                if (array[position].compareTo(keys[start + g]) < 0) {
+                    position++;
+                }
+                out[start + g] = position < n && array[position].compareTo(keys[start + g]) == 0 ? position : -1;
+            }
+        }
+    }
+
+    static void findAll(int @NotNull [] array, int @NotNull [] keys, int @NotNull [] out) {
+        checkOutput(keys.length, out.length);
+        if (keys.length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new SplitTask((from, to) -> findRange(array, keys, out, from, to), 0, keys.length));
+        } else {
+            findRange(array, keys, out, 0, keys.length);
+        }
+    }
+
+    private static void findRange(int[] array, int[] keys, int[] out, int from, int to) {
+        boolean sorted = true;
+        for (int i = from + 1; i < to && sorted; i++) {
+            sorted = !(keys[i] < keys[i - 1]);
+        }
+        if (sorted) {
+            mergeSearch(array, keys, out, from, to);
+        } else {
+            interleavedSearch(array, keys, out, from, to);
+        }
+    }
+
+    /**
+     * Searches ascending keys, galloping forward from the position of the previous key.
+     */
+    private static void mergeSearch(int[] array, int[] keys, int[] out, int from, int to) {
+        int n = array.length;
+        int position = 0;
+        for (int i = from; i < to; i++) {
+            int key = keys[i];
+            int low = position;
+            int step = 1;
+            while (low + step < n && array[low + step] < key) {
+                low += step;
+                step <<= 1;
+            }
+            int high = Math.min(low + step, n);
+            while (low < high) {
+                int median = (low + high) >>> 1;
+                if (array[median] < key) {
+                    low = median + 1;
+                } else {
+                    high = median;
+                }
+            }
+            position = low;
+            out[i] = position < n && array[position] == key ? position : -1;
+        }
+    }
+
+    /**
+     * Searches unordered keys in groups, advancing every search of a group by one level per round so their
+     * memory accesses are independent and can overlap.
+     */
+    private static void interleavedSearch(int[] array, int[] keys, int[] out, int from, int to) {
+        int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, from, to, -1);
+            return;
+        }
+        int[] base = new int[GROUP];
+        for (int start = from; start < to; start += GROUP) {
+            int count = Math.min(GROUP, to - start);
+            Arrays.fill(base, 0);
+
+            int length = n;
+            while (length > 1) {
+                int half = length >>> 1;
+                for (int g = 0; g < count; g++) {
+                    int candidate = base[g] + half;
+                    base[g] = array[candidate] < keys[start + g] ? candidate : base[g];
+                }
+                length -= half;
+            }
+
+            for (int g = 0; g < count; g++) {
+                int position = base[g];
+                if (array[position] < keys[start + g]) {
+                    position++;
+                }
+                out[start + g] = position < n && array[position] == keys[start + g] ? position : -1;
+            }
+        }
+    }
+
+    static void findAll(long @NotNull [] array, long @NotNull [] keys, int @NotNull [] out) {
+        checkOutput(keys.length, out.length);
+        if (keys.length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new SplitTask((from, to) -> findRange(array, keys, out, from, to), 0, keys.length));
+        } else {
+            findRange(array, keys, out, 0, keys.length);
+        }
+    }
+
+    private static void findRange(long[] array, long[] keys, int[] out, int from, int to) {
+        boolean sorted = true;
+        for (int i = from + 1; i < to && sorted; i++) {
+            sorted = !(keys[i] < keys[i - 1]);
+        }
+        if (sorted) {
+            mergeSearch(array, keys, out, from, to);
+        } else {
+            interleavedSearch(array, keys, out, from, to);
+        }
+    }
+
+    /**
+     * Searches ascending keys, galloping forward from the position of the previous key.
+     */
+    private static void mergeSearch(long[] array, long[] keys, int[] out, int from, int to) {
+        int n = array.length;
+        int position = 0;
+        for (int i = from; i < to; i++) {
+            long key = keys[i];
+            int low = position;
+            int step = 1;
+            while (low + step < n && array[low + step] < key) {
+                low += step;
+                step <<= 1;
+            }
+            int high = Math.min(low + step, n);
+            while (low < high) {
+                int median = (low + high) >>> 1;
+                if (array[median] < key) {
+                    low = median + 1;
+                } else {
+                    high = median;
+                }
+            }
+            position = low;
+            out[i] = position < n && array[position] == key ? position : -1;
+        }
+    }
+
+    /**
+     * Searches unordered keys in groups, advancing every search of a group by one level per round so their
+     * memory accesses are independent and can overlap.
+     */
+    private static void interleavedSearch(long[] array, long[] keys, int[] out, int from, int to) {
+        int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, from, to, -1);
+            return;
+        }
+        int[] base = new int[GROUP];
+        for (int start = from; start < to; start += GROUP) {
+            int count = Math.min(GROUP, to - start);
+            Arrays.fill(base, 0);
+
+            int length = n;
+            while (length > 1) {
+                int half = length >>> 1;
+                for (int g = 0; g < count; g++) {
+                    int candidate = base[g] + half;
+                    base[g] = array[candidate] < keys[start + g] ? candidate : base[g];
+                }
+                length -= half;
+            }
+
+            for (int g = 0; g < count; g++) {
+                int position = base[g];
+                if (array[position] < keys[start + g]) {
+                    position++;
+                }
+                out[start + g] = position < n && array[position] == keys[start + g] ? position : -1;
+            }
+        }
+    }
+
+    static void findAll(double @NotNull [] array, double @NotNull [] keys, int @NotNull [] out) {
+        checkOutput(keys.length, out.length);
+        if (keys.length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new SplitTask((from, to) -> findRange(array, keys, out, from, to), 0, keys.length));
+        } else {
+            findRange(array, keys, out, 0, keys.length);
+        }
+    }
+
+    private static void findRange(double[] array, double[] keys, int[] out, int from, int to) {
+        boolean sorted = true;
+        for (int i = from + 1; i < to && sorted; i++) {
+            sorted = !(Double.compare(keys[i], keys[i - 1]) < 0);
+        }
+        if (sorted) {
+            mergeSearch(array, keys, out, from, to);
+        } else {
+            interleavedSearch(array, keys, out, from, to);
+        }
+    }
+
+    /**
+     * Searches ascending keys, galloping forward from the position of the previous key.
+     */
+    private static void mergeSearch(double[] array, double[] keys, int[] out, int from, int to) {
+        int n = array.length;
+        int position = 0;
+        for (int i = from; i < to; i++) {
+            double key = keys[i];
+            int low = position;
+            int step = 1;
+            while (low + step < n && Double.compare(array[low + step], key) < 0) {
+                low += step;
+                step <<= 1;
+            }
+            int high = Math.min(low + step, n);
+            while (low < high) {
+                int median = (low + high) >>> 1;
+                if (Double.compare(array[median], key) < 0) {
+                    low = median + 1;
+                } else {
+                    high = median;
+                }
+            }
+            position = low;
+            out[i] = position < n && Double.compare(array[position], key) == 0 ? position : -1;
+        }
+    }
+
+    /**
+     * Searches unordered keys in groups, advancing every search of a group by one level per round so their
+     * memory accesses are independent and can overlap.
+     */
+    private static void interleavedSearch(double[] array, double[] keys, int[] out, int from, int to) {
+        int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, from, to, -1);
+            return;
+        }
+        int[] base = new int[GROUP];
+        for (int start = from; start < to; start += GROUP) {
+            int count = Math.min(GROUP, to - start);
+            Arrays.fill(base, 0);
+
+            int length = n;
+            while (length > 1) {
+                int half = length >>> 1;
+                for (int g = 0; g < count; g++) {
+                    int candidate = base[g] + half;
+                    base[g] = Double.compare(array[candidate], keys[start + g]) < 0 ? candidate : base[g];
+                }
+                length -= half;
+            }
+
+            for (int g = 0; g < count; g++) {
+                int position = base[g];
+                if (Double.compare(array[position], keys[start + g]) < 0) {
+                    position++;
+                }
+                out[start + g] = position < n && Double.compare(array[position], keys[start + g]) == 0 ? position : -1;
+            }
+        }
+    }
+
+    static void findAll(float @NotNull [] array, float @NotNull [] keys, int @NotNull [] out) {
+        checkOutput(keys.length, out.length);
+        if (keys.length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new SplitTask((from, to) -> findRange(array, keys, out, from, to), 0, keys.length));
+        } else {
+            findRange(array, keys, out, 0, keys.length);
+        }
+    }
+
+    private static void findRange(float[] array, float[] keys, int[] out, int from, int to) {
+        boolean sorted = true;
+        for (int i = from + 1; i < to && sorted; i++) {
+            sorted = !(Float.compare(keys[i], keys[i - 1]) < 0);
+        }
+        if (sorted) {
+            mergeSearch(array, keys, out, from, to);
+        } else {
+            interleavedSearch(array, keys, out, from, to);
+        }
+    }
+
+    /**
+     * Searches ascending keys, galloping forward from the position of the previous key.
+     */
+    private static void mergeSearch(float[] array, float[] keys, int[] out, int from, int to) {
+        int n = array.length;
+        int position = 0;
+        for (int i = from; i < to; i++) {
+            float key = keys[i];
+            int low = position;
+            int step = 1;
+            while (low + step < n && Float.compare(array[low + step], key) < 0) {
+                low += step;
+                step <<= 1;
+            }
+            int high = Math.min(low + step, n);
+            while (low < high) {
+                int median = (low + high) >>> 1;
+                if (Float.compare(array[median], key) < 0) {
+                    low = median + 1;
+                } else {
+                    high = median;
+                }
+            }
+            position = low;
+            out[i] = position < n && Float.compare(array[position], key) == 0 ? position : -1;
+        }
+    }
+
+    /**
+     * Searches unordered keys in groups, advancing every search of a group by one level per round so their
+     * memory accesses are independent and can overlap.
+     */
+    private static void interleavedSearch(float[] array, float[] keys, int[] out, int from, int to) {
+        int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, from, to, -1);
+            return;
+        }
+        int[] base = new int[GROUP];
+        for (int start = from; start < to; start += GROUP) {
+            int count = Math.min(GROUP, to - start);
+            Arrays.fill(base, 0);
+
+            int length = n;
+            while (length > 1) {
+                int half = length >>> 1;
+                for (int g = 0; g < count; g++) {
+                    int candidate = base[g] + half;
+                    base[g] = Float.compare(array[candidate], keys[start + g]) < 0 ? candidate : base[g];
+                }
+                length -= half;
+            }
+
+            for (int g = 0; g < count; g++) {
+                int position = base[g];
+                if (Float.compare(array[position], keys[start + g]) < 0) {
+                    position++;
+                }
+                out[start + g] = position < n && Float.compare(array[position], keys[start + g]) == 0 ? position : -1;
+            }
+        }
+    }
+
+    private static void checkOutput(int keys, int out) {
+        if (out < keys) {
+            throw new IllegalArgumentException("output length " + out + " is smaller than the number of keys " + keys);
+        }
+    }
+
+    /**
+     * Searches the keys in [from, to) and writes their results.
+     */
+    @FunctionalInterface
+    private interface RangeSearch {
+        void search(int from, int to);
+    }
+
+    /**
+     * Forked task that splits a range of keys until it is small enough to search sequentially.
+     */
+    private static final class SplitTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final @NotNull RangeSearch search;
+        private final int from;
+        private final int to;
+
+        private SplitTask(@NotNull RangeSearch search, int from, int to) {
+            this.search = search;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                search.search(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SplitTask(search, from, mid), new SplitTask(search, mid, to));
+        }
+    }
+}
@@ -3,6 +3,9 @@ package codes.matheus.search;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 /**
  * A search algorithm known as binary search, which looks for the position of a value within an array.
  *
@@ -167,4 +170,565 @@ public final class BinarySearch {
         }
         return -1;
     }
-}
\ No newline at end of file
+
+    /**
+     * This method implements a binary search over an array of objects sorted by a primitive long key, reading
+     * the key of each probed element with the extractor instead of comparing whole objects.
+     * No probe object is needed and no key is boxed.
+     *
+     * @param array an array sorted in ascending order of key
+     * @param key the extractor of the key of an element
+     * @param target the key to search in array
+     * @return the index of an element with the target key or -1 if not found
+     *
+     * */
+    public static <T> int findByLongKey(@NotNull T[] array, @NotNull ToLongFunction<? super T> key, long target) {
+        int left = 0;
+        int right = array.length - 1;
+
+        while (left <= right) {
+            int median = (left + right) >>> 1;
+            long value = key.applyAsLong(array[median]);
+
+            if (value == target) {
+                return median;
+            } else if (value < target) {
+                left = median + 1;
+            } else {
+                right = median - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * This method extracts the long key of every element into a primitive column, so that repeated searches run on
+     * the column with {@link #find(long[], long)}, {@link #lowerBound(long[], long)} and the like, whose indices are
+     * the indices of the elements, without calling the extractor again.
+     *
+     * @param array an array sorted in ascending order of key
+     * @param key the extractor of the key of an element
+     * @return the keys of the elements, in the same order
+     *
+     * */
+    public static <T> long @NotNull [] longKeyColumn(@NotNull T[] array, @NotNull ToLongFunction<? super T> key) {
+        long[] column = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            column[i] = key.applyAsLong(array[i]);
+        }
+        return column;
+    }
+
+    /**
+     * This method implements a binary search over an array of objects sorted by a primitive int key, reading
+     * the key of each probed element with the extractor instead of comparing whole objects.
+     * No probe object is needed and no key is boxed.
+     *
+     * @param array an array sorted in ascending order of key
+     * @param key the extractor of the key of an element
+     * @param target the key to search in array
+     * @return the index of an element with the target key or -1 if not found
+     *
+     * */
+    public static <T> int findByIntKey(@NotNull T[] array, @NotNull ToIntFunction<? super T> key, int target) {
+        int left = 0;
+        int right = array.length - 1;
+
+        while (left <= right) {
+            int median = (left + right) >>> 1;
+            int value = key.applyAsInt(array[median]);
+
+            if (value == target) {
+                return median;
+            } else if (value < target) {
+                left = median + 1;
+            } else {
+                right = median - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * This method extracts the int key of every element into a primitive column, so that repeated searches run on
+     * the column with {@link #find(int[], int)}, {@link #lowerBound(int[], int)} and the like, whose indices are
+     * the indices of the elements, without calling the extractor again.
+     *
+     * @param array an array sorted in ascending order of key
+     * @param key the extractor of the key of an element
+     * @return the keys of the elements, in the same order
+     *
+     * */
+    public static <T> int @NotNull [] intKeyColumn(@NotNull T[] array, @NotNull ToIntFunction<? super T> key) {
+        int[] column = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            column[i] = key.applyAsInt(array[i]);
+        }
+        return column;
+    }
+
+    /**
+     * This method searches a batch of keys in a sorted generic array.
+     * Ascending keys are searched merge style, each search starting where the previous one ended; other keys
+     * are searched several at a time to overlap their memory accesses. Large batches are split across threads.
+     *
+     * @param array a sorted array
+     * @param keys the keys to search in array
+     * @param out receives, for each key, the index of its first occurrence in the array or -1 if not found
+     * @throws IllegalArgumentException if out is shorter than keys
+     *
+     * */
+    public static <T extends Comparable<@NotNull T>> void findAll(@NotNull T[] array, @NotNull T[] keys, int @NotNull [] out) {
+        BatchedBinarySearch.findAll(array, keys, out);
+    }
+
+    /**
+     * This method searches a batch of keys in a sorted primitive int array.
+     * Ascending keys are searched merge style, each search starting where the previous one ended; other keys
+     * are searched several at a time to overlap their memory accesses. Large batches are split across threads.
+     *
+     * @param array a sorted array
+     * @param keys the keys to search in array
+     * @param out receives, for each key, the index of its first occurrence in the array or -1 if not found
+     * @throws IllegalArgumentException if out is shorter than keys
+     *
+     * */
+    public static void findAll(int @NotNull [] array, int @NotNull [] keys, int @NotNull [] out) {
+        BatchedBinarySearch.findAll(array, keys, out);
+    }
+
+    /**
+     * This method searches a batch of keys in a sorted primitive long array.
+     * Ascending keys are searched merge style, each search starting where the previous one ended; other keys
+     * are searched several at a time to overlap their memory accesses. Large batches are split across threads.
+     *
+     * @param array a sorted array
+     * @param keys the keys to search in array
+     * @param out receives, for each key, the index of its first occurrence in the array or -1 if not found
+     * @throws IllegalArgumentException if out is shorter than keys
+     *
+     * */
+    public static void findAll(long @NotNull [] array, long @NotNull [] keys, int @NotNull [] out) {
+        BatchedBinarySearch.findAll(array, keys, out);
+    }
+
+    /**
+     * This method searches a batch of keys in a sorted primitive double array (ordered by {@link Double#compare(double, double)}).
+     * Ascending keys are searched merge style, each search starting where the previous one ended; other keys
+     * are searched several at a time to overlap their memory accesses. Large batches are split across threads.
+     *
+     * @param array a sorted array
+     * @param keys the keys to search in array
+     * @param out receives, for each key, the index of its first occurrence in the array or -1 if not found
+     * @throws IllegalArgumentException if out is shorter than keys
+     *
+     * */
+    public static void findAll(double @NotNull [] array, double @NotNull [] keys, int @NotNull [] out) {
+        BatchedBinarySearch.findAll(array, keys, out);
+    }
+
+    /**
+     * This method searches a batch of keys in a sorted primitive float array (ordered by {@link Float#compare(float, float)}).
+     * Ascending keys are searched merge style, each search starting where the previous one ended; other keys
+     * are searched several at a time to overlap their memory accesses. Large batches are split across threads.
+     *
+     * @param array a sorted array
+     * @param keys the keys to search in array
+     * @param out receives, for each key, the index of its first occurrence in the array or -1 if not found
+     * @throws IllegalArgumentException if out is shorter than keys
+     *
+     * */
+    public static void findAll(float @NotNull [] array, float @NotNull [] keys, int @NotNull [] out) {
+        BatchedBinarySearch.findAll(array, keys, out);
+    }
+
+    /**
+     * This method finds the first position in a sorted generic array whose element is not less than the key.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return the index of the first element greater than or equal to key, or array.length if there is none
+     *
+     * */
+    public static <T extends Comparable<@NotNull T>> int lowerBound(@NotNull T[] array, @NotNull T key) {
+        return lowerBound(array, key, 0, array.length);
+    }
+
+    /**
+     * This method finds the first position in a sorted generic array whose element is greater than the key.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return the index of the first element greater than key, or array.length if there is none
+     *
+     * */
+    public static <T extends Comparable<@NotNull T>> int upperBound(@NotNull T[] array, @NotNull T key) {
+        return upperBound(array, key, 0, array.length);
+    }
+
+    /**
+     * This method finds the positions of all occurrences of the key in a sorted generic array.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return {from, to}, the key occupies the indices from (inclusive) to to (exclusive); both are the insertion point if not found
+     *
+     * */
+    public static <T extends Comparable<@NotNull T>> int @NotNull [] equalRange(@NotNull T[] array, @NotNull T key) {
+        int from = lowerBound(array, key, 0, array.length);
+        return new int[]{from, upperBound(array, key, from, array.length)};
+    }
+
+    /**
+     * This method counts the elements of a sorted generic array that lie in the closed range [low, high].
+     *
+     * @param array a sorted array
+     * @param low the smallest element to count
+     * @param high the largest element to count
+     * @return the number of elements between low and high, or 0 if low is greater than high
+     *
+     * */
+    public static <T extends Comparable<@NotNull T>> int countInRange(@NotNull T[] array, @NotNull T low, @NotNull T high) {
+        if (high.compareTo(low) < 0) {
+            return 0;
+        }
+        int from = lowerBound(array, low, 0, array.length);
+        return upperBound(array, high, from, array.length) - from;
+    }
+
+    static <T extends Comparable<@NotNull T>> int lowerBound(@NotNull T[] array, @NotNull T key, int left, int right) {
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (array[median].compareTo(key) < 0) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left;
+    }
+
+    static <T extends Comparable<@NotNull T>> int upperBound(@NotNull T[] array, @NotNull T key, int left, int right) {
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (key.compareTo(array[median]) < 0) {
+                right = median;
+            } else {
+                left = median + 1;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive int array whose element is not less than the key.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return the index of the first element greater than or equal to key, or array.length if there is none
+     *
+     * */
+    public static int lowerBound(int @NotNull [] array, int key) {
+        return lowerBound(array, key, 0, array.length);
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive int array whose element is greater than the key.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return the index of the first element greater than key, or array.length if there is none
+     *
+     * */
+    public static int upperBound(int @NotNull [] array, int key) {
+        return upperBound(array, key, 0, array.length);
+    }
+
+    /**
+     * This method finds the positions of all occurrences of the key in a sorted primitive int array.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return {from, to}, the key occupies the indices from (inclusive) to to (exclusive); both are the insertion point if not found
+     *
+     * */
+    public static int @NotNull [] equalRange(int @NotNull [] array, int key) {
+        int from = lowerBound(array, key, 0, array.length);
+        return new int[]{from, upperBound(array, key, from, array.length)};
+    }
+
+    /**
+     * This method counts the elements of a sorted primitive int array that lie in the closed range [low, high].
+     *
+     * @param array a sorted array
+     * @param low the smallest element to count
+     * @param high the largest element to count
+     * @return the number of elements between low and high, or 0 if low is greater than high
+     *
+     * */
+    public static int countInRange(int @NotNull [] array, int low, int high) {
+        if (high < low) {
+            return 0;
+        }
+        int from = lowerBound(array, low, 0, array.length);
+        return upperBound(array, high, from, array.length) - from;
+    }
+
+    static int lowerBound(int @NotNull [] array, int key, int left, int right) {
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (array[median] < key) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left;
+    }
+
+    static int upperBound(int @NotNull [] array, int key, int left, int right) {
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (key < array[median]) {
+                right = median;
+            } else {
+                left = median + 1;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive long array whose element is not less than the key.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return the index of the first element greater than or equal to key, or array.length if there is none
+     *
+     * */
+    public static int lowerBound(long @NotNull [] array, long key) {
+        return lowerBound(array, key, 0, array.length);
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive long array whose element is greater than the key.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return the index of the first element greater than key, or array.length if there is none
+     *
+     * */
+    public static int upperBound(long @NotNull [] array, long key) {
+        return upperBound(array, key, 0, array.length);
+    }
+
+    /**
+     * This method finds the positions of all occurrences of the key in a sorted primitive long array.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return {from, to}, the key occupies the indices from (inclusive) to to (exclusive); both are the insertion point if not found
+     *
+     * */
+    public static int @NotNull [] equalRange(long @NotNull [] array, long key) {
+        int from = lowerBound(array, key, 0, array.length);
+        return new int[]{from, upperBound(array, key, from, array.length)};
+    }
+
+    /**
+     * This method counts the elements of a sorted primitive long array that lie in the closed range [low, high].
+     *
+     * @param array a sorted array
+     * @param low the smallest element to count
+     * @param high the largest element to count
+     * @return the number of elements between low and high, or 0 if low is greater than high
+     *
+     * */
+    public static int countInRange(long @NotNull [] array, long low, long high) {
+        if (high < low) {
+            return 0;
+        }
+        int from = lowerBound(array, low, 0, array.length);
+        return upperBound(array, high, from, array.length) - from;
+    }
+
+    static int lowerBound(long @NotNull [] array, long key, int left, int right) {
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (array[median] < key) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left;
+    }
+
+    static int upperBound(long @NotNull [] array, long key, int left, int right) {
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (key < array[median]) {
+                right = median;
+            } else {
+                left = median + 1;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive double array ordered by {@link Double#compare(double, double)} whose element is not less than the key.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return the index of the first element greater than or equal to key, or array.length if there is none
+     *
+     * */
+    public static int lowerBound(double @NotNull [] array, double key) {
+        return lowerBound(array, key, 0, array.length);
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive double array ordered by {@link Double#compare(double, double)} whose element is greater than the key.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return the index of the first element greater than key, or array.length if there is none
+     *
+     * */
+    public static int upperBound(double @NotNull [] array, double key) {
+        return upperBound(array, key, 0, array.length);
+    }
+
+    /**
+     * This method finds the positions of all occurrences of the key in a sorted primitive double array ordered by {@link Double#compare(double, double)}.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return {from, to}, the key occupies the indices from (inclusive) to to (exclusive); both are the insertion point if not found
+     *
+     * */
+    public static int @NotNull [] equalRange(double @NotNull [] array, double key) {
+        int from = lowerBound(array, key, 0, array.length);
+        return new int[]{from, upperBound(array, key, from, array.length)};
+    }
+
+    /**
+     * This method counts the elements of a sorted primitive double array ordered by {@link Double#compare(double, double)} that lie in the closed range [low, high].
+     *
+     * @param array a sorted array
+     * @param low the smallest element to count
+     * @param high the largest element to count
+     * @return the number of elements between low and high, or 0 if low is greater than high
+     *
+     * */
+    public static int countInRange(double @NotNull [] array, double low, double high) {
+        if (Double.compare(high, low) < 0) {
+            return 0;
+        }
+        int from = lowerBound(array, low, 0, array.length);
+        return upperBound(array, high, from, array.length) - from;
+    }
+
+    static int lowerBound(double @NotNull [] array, double key, int left, int right) {
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (Double.compare(array[median], key) < 0) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left;
+    }
+
+    static int upperBound(double @NotNull [] array, double key, int left, int right) {
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (Double.compare(key, array[median]) < 0) {
+                right = median;
+            } else {
+                left = median + 1;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive float array ordered by {@link Float#compare(float, float)} whose element is not less than the key.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return the index of the first element greater than or equal to key, or array.length if there is none
+     *
+     * */
+    public static int lowerBound(float @NotNull [] array, float key) {
+        return lowerBound(array, key, 0, array.length);
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive float array ordered by {@link Float#compare(float, float)} whose element is greater than the key.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return the index of the first element greater than key, or array.length if there is none
+     *
+     * */
+    public static int upperBound(float @NotNull [] array, float key) {
+        return upperBound(array, key, 0, array.length);
+    }
+
+    /**
+     * This method finds the positions of all occurrences of the key in a sorted primitive float array ordered by {@link Float#compare(float, float)}.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return {from, to}, the key occupies the indices from (inclusive) to to (exclusive); both are the insertion point if not found
+     *
+     * */
+    public static int @NotNull [] equalRange(float @NotNull [] array, float key) {
+        int from = lowerBound(array, key, 0, array.length);
+        return new int[]{from, upperBound(array, key, from, array.length)};
+    }
+
+    /**
+     * This method counts the elements of a sorted primitive float array ordered by {@link Float#compare(float, float)} that lie in the closed range [low, high].
+     *
+     * @param array a sorted array
+     * @param low the smallest element to count
+     * @param high the largest element to count
+     * @return the number of elements between low and high, or 0 if low is greater than high
+     *
+     * */
+    public static int countInRange(float @NotNull [] array, float low, float high) {
+        if (Float.compare(high, low) < 0) {
+            return 0;
+        }
+        int from = lowerBound(array, low, 0, array.length);
+        return upperBound(array, high, from, array.length) - from;
+    }
+
+    static int lowerBound(float @NotNull [] array, float key, int left, int right) {
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (Float.compare(array[median], key) < 0) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left;
+    }
+
+    static int upperBound(float @NotNull [] array, float key, int left, int right) {
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (Float.compare(key, array[median]) < 0) {
+                right = median;
+            } else {
+                left = median + 1;
+            }
+        }
+        return left;
+    }
+}
@@ -0,0 +1,161 @@
+package codes.matheus.search;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * A sorted array with a {@link BlockedBloomFilter} in front of its binary search.
+ *
+ * <p>Most lookups that miss are rejected by the filter with a single cache miss, without the log n probes of
+ * {@link BinarySearch#find}; only keys the filter reports as possibly present are searched. The counters tell
+ * how often each case happens, so the false-positive rate can be checked against the one configured.</p>
+ *
+ * <p>The filter hashes the keys, while the search matches them with {@code compareTo}. Keys that compare as
+ * equal must therefore hash equally, or a key present in the array could be ruled out by the filter. The
+ * constructors without a key hash use {@link Object#hashCode()}, which is only correct when the ordering is
+ * consistent with equals; for other types, such as {@link java.math.BigDecimal} where {@code 1.0} and
+ * {@code 1.00} compare as equal but hash differently, pass a key hash that agrees with the ordering.</p>
+ *
+ * <p>The array is not copied and must not change while it is wrapped.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ * @param <T> the type of elements in the array extends comparable
+ */
+public final class BloomFilteredArray<T extends Comparable<@NotNull T>> {
+    private final @NotNull T[] array;
+    private final @NotNull BlockedBloomFilter filter;
+    private final @NotNull ToLongFunction<? super T> keyHash;
+    private final @NotNull LongAdder hits = new LongAdder();
+    private final @NotNull LongAdder misses = new LongAdder();
+    private final @NotNull LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Wraps a sorted array with a filter sized for a target false-positive rate, hashing keys with
+     * {@link Object#hashCode()}; the ordering of the keys must be consistent with equals.
+     *
+     * @param array a sorted array
+     * @param falsePositiveRate wanted probability that a missing key is searched anyway, in (0, 1)
+     */
+    public BloomFilteredArray(@NotNull T[] array, double falsePositiveRate) {
+        this(array, falsePositiveRate, Object::hashCode);
+    }
+
+    /**
+     * Wraps a sorted array with a filter sized for a target false-positive rate.
+     *
+     * @param array a sorted array
+     * @param falsePositiveRate wanted probability that a missing key is searched anyway, in (0, 1)
+     * @param keyHash hash of a key; keys that compare as equal must have equal hashes
+     */
+    public BloomFilteredArray(@NotNull T[] array, double falsePositiveRate, @NotNull ToLongFunction<? super T> keyHash) {
+        this(array, BlockedBloomFilter.withFalsePositiveRate(array.length, falsePositiveRate), keyHash);
+    }
+
+    /**
+     * Wraps a sorted array with a filter of a given number of bits per key, hashing keys with
+     * {@link Object#hashCode()}; the ordering of the keys must be consistent with equals.
+     *
+     * @param array a sorted array
+     * @param bitsPerKey bits of filter per key
+     */
+    public BloomFilteredArray(@NotNull T[] array, int bitsPerKey) {
+        this(array, bitsPerKey, Object::hashCode);
+    }
+
+    /**
+     * Wraps a sorted array with a filter of a given number of bits per key.
+     *
+     * @param array a sorted array
+     * @param bitsPerKey bits of filter per key
+     * @param keyHash hash of a key; keys that compare as equal must have equal hashes
+     */
+    public BloomFilteredArray(@NotNull T[] array, int bitsPerKey, @NotNull ToLongFunction<? super T> keyHash) {
+        this(array, BlockedBloomFilter.withBitsPerKey(array.length, bitsPerKey), keyHash);
+    }
+
+    private BloomFilteredArray(@NotNull T[] array, @NotNull BlockedBloomFilter filter, @NotNull ToLongFunction<? super T> keyHash) {
+        this.array = array;
+        this.filter = filter;
+        this.keyHash = keyHash;
+        for (@NotNull T value : array) {
+            filter.add(keyHash.applyAsLong(value));
+        }
+    }
+
+    /**
+     * Searches the key, skipping the binary search when the filter rules the key out.
+     *
+     * @param key the key to search in array
+     * @return the index of key in the array or -1 if not found
+     */
+    public int find(@NotNull T key) {
+        if (!filter.mightContain(keyHash.applyAsLong(key))) {
+            misses.increment();
+            return -1;
+        }
+        int index = BinarySearch.find(array, key);
+        if (index < 0) {
+            falsePositives.increment();
+        } else {
+            hits.increment();
+        }
+        return index;
+    }
+
+    /**
+     * Method to check if the array contains a value
+     *
+     * @param key Value to look for
+     * @return Returns true or false depending on whether the array contains the value.
+     */
+    public boolean contains(@NotNull T key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Returns the filter in front of the array, for example to check its size or false-positive rate.
+     *
+     * @return the filter holding every key of the array
+     */
+    public @NotNull BlockedBloomFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Counts the lookups that found their key.
+     *
+     * @return number of lookups that found their key
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Counts the lookups the filter rejected without searching the array.
+     *
+     * @return number of lookups the filter answered alone
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Counts the lookups the filter let through that the search then did not find.
+     *
+     * @return number of lookups the filter let through that did not find their key
+     */
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * Clears every counter.
+     */
+    public void resetCounters() {
+        hits.reset();
+        misses.reset();
+        falsePositives.reset();
+    }
+}
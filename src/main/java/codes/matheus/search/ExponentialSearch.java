@@ -0,0 +1,174 @@
+package codes.matheus.search;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A search algorithm known as exponential (galloping) search: it doubles a bound from the start of the array
+ * until it passes the value, then runs a binary search between the last two bounds.
+ *
+ * <p>Its cost depends on the position i of the value rather than on the length of the array, so it suits
+ * very large arrays where the value is usually near the front.</p>
+ *
+ * <p>Time Complexity:
+ * - Best case: O(1)
+ * - Worst case: O(log i), where i is the position of the value; never more than O(log n)</p>
+ *
+ * <p>Space Complexity: O(1)</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class ExponentialSearch {
+    private ExponentialSearch() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * This method implements an exponential search algorithm
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @return the index of key in the array or -1 if not found
+     *
+     * */
+    public static <T extends Comparable<@NotNull T>> int find(@NotNull T[] array, @NotNull T key) {
+        int bound = 1;
+        // past 2^30 the bound overflows to Integer.MIN_VALUE, so the doubling stops there instead of indexing with it
+        while (bound > 0 && bound < array.length && array[bound].compareTo(key) < 0) {
+            bound <<= 1;
+        }
+        // bound - 1 turns an overflowed bound into Integer.MAX_VALUE, so the range ends at the last index
+        return BinarySearch.find(array, key, bound >>> 1, Math.min(bound - 1, array.length - 2) + 1);
+    }
+
+    /**
+     * This method implements an exponential search algorithm for primitive int types.
+     *
+     * @param array a sorted int array
+     * @param key the key to search in array
+     * @return the index of key in the array or -1 if not found
+     *
+     * */
+    public static int find(int @NotNull [] array, int key) {
+        int bound = 1;
+        // past 2^30 the bound overflows to Integer.MIN_VALUE, so the doubling stops there instead of indexing with it
+        while (bound > 0 && bound < array.length && array[bound] < key) {
+            bound <<= 1;
+        }
+
+        int left = bound >>> 1;
+        // bound - 1 turns an overflowed bound into Integer.MAX_VALUE, so the range ends at the last index
+        int right = Math.min(bound - 1, array.length - 2) + 1;
+        while (left <= right) {
+            int median = (left + right) >>> 1;
+            int compute = Integer.compare(key, array[median]);
+
+            if (compute == 0) {
+                return median;
+            } else if (compute > 0) {
+                left = median + 1;
+            } else {
+                right = median - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * This method implements an exponential search algorithm for primitive long types.
+     *
+     * @param array a sorted long array
+     * @param key the key to search in array
+     * @return the index of key in the array or -1 if not found
+     *
+     * */
+    public static int find(long @NotNull [] array, long key) {
+        int bound = 1;
+        // past 2^30 the bound overflows to Integer.MIN_VALUE, so the doubling stops there instead of indexing with it
+        while (bound > 0 && bound < array.length && array[bound] < key) {
+            bound <<= 1;
+        }
+
+        int left = bound >>> 1;
+        // bound - 1 turns an overflowed bound into Integer.MAX_VALUE, so the range ends at the last index
+        int right = Math.min(bound - 1, array.length - 2) + 1;
+        while (left <= right) {
+            int median = (left + right) >>> 1;
+            int compute = Long.compare(key, array[median]);
+
+            if (compute == 0) {
+                return median;
+            } else if (compute > 0) {
+                left = median + 1;
+            } else {
+                right = median - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * This method implements an exponential search algorithm for primitive double types in the order defined by {@link Double#compare(double, double)}.
+     *
+     * @param array a sorted double array
+     * @param key the key to search in array
+     * @return the index of key in the array or -1 if not found
+     *
+     * */
+    public static int find(double @NotNull [] array, double key) {
+        int bound = 1;
+        // past 2^30 the bound overflows to Integer.MIN_VALUE, so the doubling stops there instead of indexing with it
+        while (bound > 0 && bound < array.length && Double.compare(array[bound], key) < 0) {
+            bound <<= 1;
+        }
+
+        int left = bound >>> 1;
+        // bound - 1 turns an overflowed bound into Integer.MAX_VALUE, so the range ends at the last index
+        int right = Math.min(bound - 1, array.length - 2) + 1;
+        while (left <= right) {
+            int median = (left + right) >>> 1;
+            int compute = Double.compare(key, array[median]);
+
+            if (compute == 0) {
+                return median;
+            } else if (compute > 0) {
+                left = median + 1;
+            } else {
+                right = median - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * This method implements an exponential search algorithm for primitive float types in the order defined by {@link Float#compare(float, float)}.
+     *
+     * @param array a sorted float array
+     * @param key the key to search in array
+     * @return the index of key in the array or -1 if not found
+     *
+     * */
+    public static int find(float @NotNull [] array, float key) {
+        int bound = 1;
+        // past 2^30 the bound overflows to Integer.MIN_VALUE, so the doubling stops there instead of indexing with it
+        while (bound > 0 && bound < array.length && Float.compare(array[bound], key) < 0) {
+            bound <<= 1;
+        }
+
+        int left = bound >>> 1;
+        // bound - 1 turns an overflowed bound into Integer.MAX_VALUE, so the range ends at the last index
+        int right = Math.min(bound - 1, array.length - 2) + 1;
+        while (left <= right) {
+            int median = (left + right) >>> 1;
+            int compute = Float.compare(key, array[median]);
+
+            if (compute == 0) {
+                return median;
+            } else if (compute > 0) {
+                left = median + 1;
+            } else {
+                right = median - 1;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,206 @@
+package codes.matheus.search;
+
+import codes.matheus.metrics.MetricsSink;
+import codes.matheus.metrics.OperationMetrics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+/**
+ * A {@link BinarySearch} that counts its probes and comparisons and reports them to a {@link MetricsSink}.
+ *
+ * <p>Each overload performs exactly the same steps as its {@link BinarySearch#find} counterpart; the counters
+ * live only in this class, so the regular search keeps running without any instrumentation overhead.</p>
+ *
+ * <p>Every overload counts one comparison per probe: the three-way comparison of the key with the probed
+ * element, whether the type compares with {@code compareTo}, {@code Double.compare} or the primitive operators.
+ * The same search therefore reports the same metrics whatever the element type.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class InstrumentedBinarySearch {
+    private static final @NotNull String OPERATION = "BinarySearch.find";
+
+    private InstrumentedBinarySearch() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * Searches a sorted generic array and reports the metrics of the call.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @param sink receiver of the metrics
+     * @return the index of key in the array or -1 if not found
+     */
+    public static <T extends Comparable<@NotNull T>> int find(@NotNull T[] array, @NotNull T key, @NotNull MetricsSink sink) {
+        return find(array, key, 0, array.length - 1, sink);
+    }
+
+    /**
+     * Searches a range of a sorted generic array and reports the metrics of the call.
+     *
+     * @param array a sorted array
+     * @param key the key to search in array
+     * @param left it's the start of the range.
+     * @param right it's the end of the range
+     * @param sink receiver of the metrics
+     * @return the index of key in the array or -1 if not found
+     */
+    public static <T extends Comparable<@NotNull T>> int find(@NotNull T[] array, @NotNull T key, @Range(from = 0, to = Integer.MAX_VALUE) int left, @Range(from = 0, to = Integer.MAX_VALUE) int right, @NotNull MetricsSink sink) {
+        long start = System.nanoTime();
+        long probes = 0;
+        int result = -1;
+
+        while (left <= right) {
+            int median = (left + right) >>> 1;
+            probes++;
+            int compute = key.compareTo(array[median]);
+
+            if (compute == 0) {
+                result = median;
+                break;
+            } else if (compute > 0) {
+                left = median + 1;
+            } else {
+                right = median - 1;
+            }
+        }
+
+        sink.record(new OperationMetrics(OPERATION, probes, 0, probes, System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * Searches a sorted int array and reports the metrics of the call.
+     *
+     * @param array a sorted int array
+     * @param key the key to search in array
+     * @param sink receiver of the metrics
+     * @return the index of key in the array or -1 if not found
+     */
+    public static int find(int @NotNull [] array, int key, @NotNull MetricsSink sink) {
+        long start = System.nanoTime();
+        long probes = 0;
+        int result = -1;
+        int left = 0;
+        int right = array.length - 1;
+
+        while (left <= right) {
+            int median = (left + right) >>> 1;
+            probes++;
+
+            if (array[median] == key) {
+                result = median;
+                break;
+            } else if (array[median] < key) {
+                left = median + 1;
+            } else {
+                right = median - 1;
+            }
+        }
+
+        sink.record(new OperationMetrics(OPERATION, probes, 0, probes, System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * Searches a sorted long array and reports the metrics of the call.
+     *
+     * @param array a sorted long array
+     * @param key the key to search in array
+     * @param sink receiver of the metrics
+     * @return the index of key in the array or -1 if not found
+     */
+    public static int find(long @NotNull [] array, long key, @NotNull MetricsSink sink) {
+        long start = System.nanoTime();
+        long probes = 0;
+        int result = -1;
+        int left = 0;
+        int right = array.length - 1;
+
+        while (left <= right) {
+            int median = (left + right) >>> 1;
+            probes++;
+
+            if (array[median] == key) {
+                result = median;
+                break;
+            } else if (array[median] < key) {
+                left = median + 1;
+            } else {
+                right = median - 1;
+            }
+        }
+
+        sink.record(new OperationMetrics(OPERATION, probes, 0, probes, System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * Searches a sorted double array, ordered by {@link Double#compare}, and reports the metrics of the call.
+     *
+     * @param array a sorted double array
+     * @param key the key to search in array
+     * @param sink receiver of the metrics
+     * @return the index of key in the array or -1 if not found
+     */
+    public static int find(double @NotNull [] array, double key, @NotNull MetricsSink sink) {
+        long start = System.nanoTime();
+        long probes = 0;
+        int result = -1;
+        int left = 0;
+        int right = array.length - 1;
+
+        while (left <= right) {
+            int median = (left + right) >>> 1;
+            probes++;
+            int compute = Double.compare(key, array[median]);
+
+            if (compute == 0) {
+                result = median;
+                break;
+            } else if (compute > 0) {
+                left = median + 1;
+            } else {
+                right = median - 1;
+            }
+        }
+
+        sink.record(new OperationMetrics(OPERATION, probes, 0, probes, System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * Searches a sorted float array, ordered by {@link Float#compare}, and reports the metrics of the call.
+     *
+     * @param array a sorted float array
+     * @param key the key to search in array
+     * @param sink receiver of the metrics
+     * @return the index of key in the array or -1 if not found
+     */
+    public static int find(float @NotNull [] array, float key, @NotNull MetricsSink sink) {
+        long start = System.nanoTime();
+        long probes = 0;
+        int result = -1;
+        int left = 0;
+        int right = array.length - 1;
+
+        while (left <= right) {
+            int median = (left + right) >>> 1;
+            probes++;
+            int compute = Float.compare(key, array[median]);
+
+            if (compute == 0) {
+                result = median;
+                break;
+            } else if (compute > 0) {
+                left = median + 1;
+            } else {
+                right = median - 1;
+            }
+        }
+
+        sink.record(new OperationMetrics(OPERATION, probes, 0, probes, System.nanoTime() - start));
+        return result;
+    }
+}
@@ -0,0 +1,127 @@
+package codes.matheus.search;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A sorted int array with a {@link BlockedBloomFilter} in front of its binary search.
+ *
+ * <p>The primitive counterpart of {@link BloomFilteredArray}: keys are hashed by value, without boxing,
+ * so keys that are equal always hash equally. Most lookups that miss are rejected by the filter with a
+ * single cache miss, without the log n probes of {@link BinarySearch#find(int[], int)}.</p>
+ *
+ * <p>The array is not copied and must not change while it is wrapped.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class IntBloomFilteredArray {
+    private final int @NotNull [] array;
+    private final @NotNull BlockedBloomFilter filter;
+    private final @NotNull LongAdder hits = new LongAdder();
+    private final @NotNull LongAdder misses = new LongAdder();
+    private final @NotNull LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Wraps a sorted array with a filter sized for a target false-positive rate.
+     *
+     * @param array a sorted int array
+     * @param falsePositiveRate wanted probability that a missing key is searched anyway, in (0, 1)
+     */
+    public IntBloomFilteredArray(int @NotNull [] array, double falsePositiveRate) {
+        this(array, BlockedBloomFilter.withFalsePositiveRate(array.length, falsePositiveRate));
+    }
+
+    /**
+     * Wraps a sorted array with a filter of a given number of bits per key.
+     *
+     * @param array a sorted int array
+     * @param bitsPerKey bits of filter per key
+     */
+    public IntBloomFilteredArray(int @NotNull [] array, int bitsPerKey) {
+        this(array, BlockedBloomFilter.withBitsPerKey(array.length, bitsPerKey));
+    }
+
+    private IntBloomFilteredArray(int @NotNull [] array, @NotNull BlockedBloomFilter filter) {
+        this.array = array;
+        this.filter = filter;
+        for (int value : array) {
+            filter.add(value);
+        }
+    }
+
+    /**
+     * Searches the key, skipping the binary search when the filter rules the key out.
+     *
+     * @param key the key to search in array
+     * @return the index of key in the array or -1 if not found
+     */
+    public int find(int key) {
+        if (!filter.mightContain(key)) {
+            misses.increment();
+            return -1;
+        }
+        int index = BinarySearch.find(array, key);
+        if (index < 0) {
+            falsePositives.increment();
+        } else {
+            hits.increment();
+        }
+        return index;
+    }
+
+    /**
+     * Method to check if the array contains a value
+     *
+     * @param key Value to look for
+     * @return Returns true or false depending on whether the array contains the value.
+     */
+    public boolean contains(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Returns the filter in front of the array, for example to check its size or false-positive rate.
+     *
+     * @return the filter holding every key of the array
+     */
+    public @NotNull BlockedBloomFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Counts the lookups that found their key.
+     *
+     * @return number of lookups that found their key
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Counts the lookups the filter rejected without searching the array.
+     *
+     * @return number of lookups the filter answered alone
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Counts the lookups the filter let through that the search then did not find.
+     *
+     * @return number of lookups the filter let through that did not find their key
+     */
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * Clears every counter.
+     */
+    public void resetCounters() {
+        hits.reset();
+        misses.reset();
+        falsePositives.reset();
+    }
+}
@@ -0,0 +1,133 @@
+package codes.matheus.search;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A search algorithm known as interpolation search, which guesses the position of a value from its distance
+ * to the ends of the range, the way one looks a name up in a phone book.
+ *
+ * <p>On uniformly distributed keys each probe shrinks the range to about its square root. On skewed keys
+ * a probe may shrink it by a single element, so whenever a probe fails to halve the range a binary search step
+ * follows it, and after several poor probes in a row the search continues as a plain binary search.</p>
+ *
+ * <p>Time Complexity:
+ * - Best case: O(1)
+ * - Average case: O(log log n) for uniformly distributed keys
+ * - Worst case: O(log n)</p>
+ *
+ * <p>Space Complexity: O(1)</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class InterpolationSearch {
+    /**
+     * Number of consecutive probes that fail to halve the range before interpolation is abandoned.
+     */
+    private static final int MAX_POOR_PROBES = 4;
+
+    private InterpolationSearch() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * This method implements an interpolation search for primitive int types.
+     *
+     * @param array a sorted int array
+     * @param key the key to search in array
+     * @return the index of key in the array or -1 if not found
+     *
+     * */
+    public static int find(int @NotNull [] array, int key) {
+        int low = 0;
+        int high = array.length - 1;
+        int poorProbes = 0;
+
+        while (low <= high) {
+            if (key < array[low] || key > array[high]) {
+                return -1;
+            }
+            if (array[low] == array[high]) {
+                return low;
+            }
+
+            int width = high - low;
+            if (poorProbes < MAX_POOR_PROBES) {
+                double fraction = ((double) key - array[low]) / ((double) array[high] - array[low]);
+                int probe = low + Math.min(width, (int) (fraction * width));
+                if (array[probe] == key) {
+                    return probe;
+                } else if (array[probe] < key) {
+                    low = probe + 1;
+                } else {
+                    high = probe - 1;
+                }
+                if (high - low <= width >>> 1) {
+                    poorProbes = 0;
+                    continue;
+                }
+                poorProbes++;
+            }
+
+            int median = (low + high) >>> 1;
+            if (array[median] == key) {
+                return median;
+            } else if (array[median] < key) {
+                low = median + 1;
+            } else {
+                high = median - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * This method implements an interpolation search for primitive long types.
+     *
+     * @param array a sorted long array
+     * @param key the key to search in array
+     * @return the index of key in the array or -1 if not found
+     *
+     * */
+    public static int find(long @NotNull [] array, long key) {
+        int low = 0;
+        int high = array.length - 1;
+        int poorProbes = 0;
+
+        while (low <= high) {
+            if (key < array[low] || key > array[high]) {
+                return -1;
+            }
+            if (array[low] == array[high]) {
+                return low;
+            }
+
+            int width = high - low;
+            if (poorProbes < MAX_POOR_PROBES) {
+                double fraction = ((double) key - array[low]) / ((double) array[high] - array[low]);
+                int probe = low + Math.min(width, (int) (fraction * width));
+                if (array[probe] == key) {
+                    return probe;
+                } else if (array[probe] < key) {
+                    low = probe + 1;
+                } else {
+                    high = probe - 1;
+                }
+                if (high - low <= width >>> 1) {
+                    poorProbes = 0;
+                    continue;
+                }
+                poorProbes++;
+            }
+
+            int median = (low + high) >>> 1;
+            if (array[median] == key) {
+                return median;
+            } else if (array[median] < key) {
+                low = median + 1;
+            } else {
+                high = median - 1;
+            }
+        }
+        return -1;
+    }
+}
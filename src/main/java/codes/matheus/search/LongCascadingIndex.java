@@ -0,0 +1,175 @@
+package codes.matheus.search;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A fractional cascading index that searches one key in many sorted long arrays at once.
+ *
+ * <p>Searching k arrays separately costs k binary searches. Here the arrays are chained from the last one
+ * back to the first: level i holds array i merged with every other element of level i + 1, and every element
+ * of a level records its lower bound in its own array and in the next level. One binary search in the first
+ * level then gives the lower bound in the first array, and the lower bound in each following level is at most
+ * one position before the recorded one, so every further array costs O(1).</p>
+ *
+ * <p>The arrays are not copied and must not change while the index is used; the levels take about twice the
+ * total length of the arrays.</p>
+ *
+ * <p>Time Complexity:
+ * - Build: O(N), where N is the total length of the arrays
+ * - Lookup: O(log N + k) for k arrays</p>
+ *
+ * <p>Space Complexity: O(N)</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class LongCascadingIndex {
+    private final long @NotNull [] @NotNull [] arrays;
+    /**
+     * Level i: array i merged with every other element of level i + 1.
+     */
+    private final long @NotNull [] @NotNull [] levels;
+    /**
+     * For each element of a level, and one past the end, its lower bound in the array of the level.
+     */
+    private final int @NotNull [] @NotNull [] positions;
+    /**
+     * For each element of a level, and one past the end, its lower bound in the next level.
+     */
+    private final int @NotNull [] @NotNull [] bridges;
+
+    /**
+     * Builds the index over a list of arrays.
+     *
+     * @param arrays long arrays, each sorted in ascending order
+     * @throws IllegalArgumentException if an array is not sorted
+     */
+    public LongCascadingIndex(@NotNull List<long @NotNull []> arrays) {
+        int k = arrays.size();
+        this.arrays = new long[k][];
+        this.levels = new long[k][];
+        this.positions = new int[k][];
+        this.bridges = new int[k][];
+
+        for (int i = k - 1; i >= 0; i--) {
+            long[] array = arrays.get(i);
+            for (int j = 1; j < array.length; j++) {
+                if (array[j] < array[j - 1]) {
+                    throw new IllegalArgumentException("array " + i + " is not sorted at index " + j);
+                }
+            }
+            this.arrays[i] = array;
+
+            long[] next = i + 1 < k ? levels[i + 1] : new long[0];
+            long[] level = new long[array.length + next.length / 2];
+            int a = 0;
+            int b = 1;
+            for (int p = 0; p < level.length; p++) {
+                if (b >= next.length || (a < array.length && array[a] <= next[b])) {
+                    level[p] = array[a++];
+                } else {
+                    level[p] = next[b];
+                    b += 2;
+                }
+            }
+
+            int[] position = new int[level.length + 1];
+            int[] bridge = new int[level.length + 1];
+            a = 0;
+            b = 0;
+            for (int p = 0; p < level.length; p++) {
+                while (a < array.length && array[a] < level[p]) a++;
+                while (b < next.length && next[b] < level[p]) b++;
+                position[p] = a;
+                bridge[p] = b;
+            }
+            position[level.length] = array.length;
+            bridge[level.length] = next.length;
+
+            levels[i] = level;
+            positions[i] = position;
+            bridges[i] = bridge;
+        }
+    }
+
+    /**
+     * Finds the lower bound of the key in every array.
+     *
+     * @param key the key to look for
+     * @param out receives, for each array, the index of its first element not less than key, or its length if there is none
+     * @throws IllegalArgumentException if out is shorter than the number of arrays
+     */
+    public void lowerBounds(long key, int @NotNull [] out) {
+        checkOutput(out);
+        if (levels.length == 0) return;
+
+        int p = BinarySearch.lowerBound(levels[0], key);
+        for (int i = 0; i < levels.length; i++) {
+            out[i] = positions[i][p];
+            if (i + 1 < levels.length) {
+                long[] next = levels[i + 1];
+                p = bridges[i][p];
+                // at most one element of the next level lies between the key and the recorded bound
+                if (p > 0 && next[p - 1] >= key) {
+                    p--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the lower bound of the key in every array.
+     *
+     * @param key the key to look for
+     * @return for each array, the index of its first element not less than key, or its length if there is none
+     */
+    public int @NotNull [] lowerBounds(long key) {
+        int[] out = new int[arrays.length];
+        lowerBounds(key, out);
+        return out;
+    }
+
+    /**
+     * Searches the key in every array.
+     *
+     * @param key the key to search
+     * @param out receives, for each array, the index of the first occurrence of key or -1 if not found
+     * @throws IllegalArgumentException if out is shorter than the number of arrays
+     */
+    public void find(long key, int @NotNull [] out) {
+        lowerBounds(key, out);
+        for (int i = 0; i < arrays.length; i++) {
+            if (out[i] == arrays[i].length || arrays[i][out[i]] != key) {
+                out[i] = -1;
+            }
+        }
+    }
+
+    /**
+     * Searches the key in every array.
+     *
+     * @param key the key to search
+     * @return for each array, the index of the first occurrence of key or -1 if not found
+     */
+    public int @NotNull [] find(long key) {
+        int[] out = new int[arrays.length];
+        find(key, out);
+        return out;
+    }
+
+    /**
+     * Returns the number of arrays indexed.
+     *
+     * @return the number of arrays
+     */
+    public int size() {
+        return arrays.length;
+    }
+
+    private void checkOutput(int @NotNull [] out) {
+        if (out.length < arrays.length) {
+            throw new IllegalArgumentException("output length " + out.length + " is smaller than the number of arrays " + arrays.length);
+        }
+    }
+}
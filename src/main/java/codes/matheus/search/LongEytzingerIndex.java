@@ -0,0 +1,145 @@
+package codes.matheus.search;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+/**
+ * A static search index over a sorted long array, stored in Eytzinger (breadth-first) order.
+ *
+ * <p>The keys are laid out like an implicit binary heap: the root at position 1 and the children of
+ * position k at 2k and 2k + 1. The first levels of the search all live in the first few cache lines,
+ * and the children of a node are adjacent, so a descent touches far fewer distinct lines than a binary
+ * search over the sorted array, whose probes are spread over the whole array. The descent has no
+ * data-dependent branch: each step only computes the next position and touches the nodes three levels
+ * ahead, and the answer is recovered from the final position with a bit trick at the end. The index in
+ * the sorted array is then computed from the position arithmetically, so no side table has to be read.</p>
+ *
+ * <p>The index answers the same queries as {@link BinarySearch#find(long[], long)}; when the key occurs
+ * several times, the index of its first occurrence in the sorted array is returned.</p>
+ *
+ * <p>Worst-case performance O(log n), build O(n), space O(n): one slot per key plus an unused slot 0.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class LongEytzingerIndex {
+    private final long[] keys;
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    private final int size;
+    /**
+     * Number of levels of the implicit tree.
+     */
+    private final int levels;
+    /**
+     * Number of nodes on the last, possibly incomplete, level.
+     */
+    private final int lastLevel;
+    /**
+     * Always 0. {@link #descend} masks the prefetch loads with it, which keeps the JIT from dropping them:
+     * the field is never written, so every lookup only reads it and threads sharing the index do not contend.
+     */
+    private int prefetchMask;
+
+    /**
+     * Builds the index from a sorted array. The array is copied and can be modified afterwards.
+     *
+     * @param sorted a long array sorted in ascending order
+     */
+    public LongEytzingerIndex(long @NotNull [] sorted) {
+        this.size = sorted.length;
+        this.keys = new long[size + 1];
+        this.levels = 32 - Integer.numberOfLeadingZeros(size);
+        this.lastLevel = size == 0 ? 0 : size - ((1 << (levels - 1)) - 1);
+
+        int rank = 0;
+        int k = 1;
+        // in-order walk of the implicit tree without recursion: go left as far as possible, then climb
+        while (size > 0) {
+            while (2 * k <= size) {
+                k = 2 * k;
+            }
+            keys[k] = sorted[rank++];
+
+            while (2 * k + 1 > size) {
+                while ((k & 1) == 1) {
+                    k >>>= 1;
+                }
+                k >>>= 1;
+                if (k == 0) return;
+                keys[k] = sorted[rank++];
+            }
+            k = 2 * k + 1;
+        }
+    }
+
+    /**
+     * Searches the key in the index.
+     *
+     * @param key the key to search
+     * @return the index of the first occurrence of key in the sorted array or -1 if not found
+     */
+    public int find(long key) {
+        int k = descend(key);
+        if (k == 0 || keys[k] != key) {
+            return -1;
+        }
+        return rank(k);
+    }
+
+    /**
+     * Finds the index in the sorted array of the first key not less than the given one.
+     *
+     * @param key the key to look for
+     * @return the lower bound of key, or the size of the index if every key is smaller
+     */
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    public int lowerBound(long key) {
+        int k = descend(key);
+        return k == 0 ? size : rank(k);
+    }
+
+    /**
+     * Compute the number of keys in the index.
+     *
+     * @return Returns the number of keys
+     */
+    @Range(from = 0, to = Integer.MAX_VALUE)
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Walks from the root to a leaf, going right whenever the node is smaller than the key, and returns
+     * the position of the first key not less than the given one, or 0 if there is none.
+     *
+     * <p>Java has no prefetch instruction, so each step also loads the node three levels below the current
+     * one (its eight descendants there fill about one cache line). That load does not depend on the
+     * comparison, so the CPU issues it early and the line is usually cached by the time the descent gets there.</p>
+     */
+    private int descend(long key) {
+        long[] keys = this.keys;
+        int n = size;
+        int k = 1;
+        long touched = 0;
+        while (k <= n) {
+            touched ^= keys[(int) Math.min((long) k << 3, n)];
+            k = 2 * k + (keys[k] < key ? 1 : 0);
+        }
+        // the trailing ones of k are the right turns taken after the answer; drop them and the last left turn
+        return (k >>> (Integer.numberOfTrailingZeros(~k) + 1)) | ((int) touched & prefetchMask);
+    }
+
+    /**
+     * Computes the index in the sorted array of the key stored at position k.
+     *
+     * <p>In a perfect tree the in-order rank of the node at depth d and offset p is (2p + 1) * 2^(h - d) - 1,
+     * where h is the depth of the last level. The missing nodes of an incomplete last level are all at its
+     * right end, so the rank only has to be reduced by the missing last-level slots that come before it.</p>
+     */
+    private int rank(int k) {
+        int depth = 31 - Integer.numberOfLeadingZeros(k);
+        long offset = k - (1L << depth);
+        long perfectRank = ((2 * offset + 1) << (levels - 1 - depth)) - 1;
+        long slotsBefore = (perfectRank + 1) >>> 1;
+        return (int) (perfectRank - Math.max(0, slotsBefore - lastLevel));
+    }
+}
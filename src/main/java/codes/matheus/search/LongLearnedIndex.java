@@ -0,0 +1,215 @@
+package codes.matheus.search;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+
+/**
+ * A learned search index over a sorted long array: a piecewise linear model of the position of each key,
+ * in the style of the PGM-index and RadixSpline.
+ *
+ * <p>The keys are split into segments, each one a line {@code position = start + slope * (key - firstKey)}
+ * that predicts the index of the first occurrence of every key it covers within {@code epsilon} positions.
+ * Segments are built in one pass with the shrinking cone algorithm: a segment grows while some slope still
+ * keeps all its keys within the error bound, and a new one starts as soon as none does. A lookup finds the
+ * segment by a binary search over the first keys of the segments, which are few and stay in cache, evaluates
+ * its line and finishes with a binary search in a window of 2 * epsilon + 1 positions around the prediction.
+ * If the key lies outside the window, which can happen for keys that are not in the array, the search
+ * gallops from the edge of the window, so the answer is always exact.</p>
+ *
+ * <p>The index answers the same queries as {@link BinarySearch#find(long[], long)}; when the key occurs
+ * several times, the index of its first occurrence is returned.</p>
+ *
+ * <p>Time Complexity:
+ * - Build: O(n)
+ * - Lookup: O(log s + log epsilon), where s is the number of segments</p>
+ *
+ * <p>Space Complexity: O(s) – 20 bytes per segment; the sorted array itself is not copied.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class LongLearnedIndex {
+    /**
+     * Error bound used when none is given.
+     */
+    public static final int DEFAULT_EPSILON = 64;
+
+    private final long @NotNull [] array;
+    @Range(from = 1, to = Integer.MAX_VALUE)
+    private final int epsilon;
+    private final long @NotNull [] firstKeys;
+    private final double @NotNull [] slopes;
+    private final int @NotNull [] starts;
+
+    /**
+     * Builds the index with the default error bound.
+     *
+     * @param sorted a long array sorted in ascending order; it is not copied and must not change while the index is used
+     */
+    public LongLearnedIndex(long @NotNull [] sorted) {
+        this(sorted, DEFAULT_EPSILON);
+    }
+
+    /**
+     * Builds the index with the given error bound.
+     *
+     * @param sorted a long array sorted in ascending order; it is not copied and must not change while the index is used
+     * @param epsilon the maximum distance between a predicted and an actual position
+     * @throws IllegalArgumentException if epsilon is not positive or the array is not sorted
+     */
+    public LongLearnedIndex(long @NotNull [] sorted, @Range(from = 1, to = Integer.MAX_VALUE) int epsilon) {
+        if (epsilon < 1) {
+            throw new IllegalArgumentException("epsilon must be positive: " + epsilon);
+        }
+        this.array = sorted;
+        this.epsilon = epsilon;
+
+        int n = sorted.length;
+        long[] keys = new long[Math.max(1, n / 16)];
+        double[] lines = new double[keys.length];
+        int[] positions = new int[keys.length];
+        int count = 0;
+
+        int i = 0;
+        while (i < n) {
+            long firstKey = sorted[i];
+            int start = i;
+            double low = 0;
+            double high = Double.POSITIVE_INFINITY;
+
+            i = nextKey(sorted, i);
+            while (i < n) {
+                if (sorted[i] < sorted[i - 1]) {
+                    throw new IllegalArgumentException("array is not sorted at index " + i);
+                }
+                double dx = distance(sorted[i], firstKey);
+                double dy = i - start;
+                double coneLow = Math.max(low, (dy - epsilon) / dx);
+                double coneHigh = Math.min(high, (dy + epsilon) / dx);
+                if (coneLow > coneHigh) break;
+                low = coneLow;
+                high = coneHigh;
+                i = nextKey(sorted, i);
+            }
+
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+                lines = Arrays.copyOf(lines, count * 2);
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            keys[count] = firstKey;
+            lines[count] = high == Double.POSITIVE_INFINITY ? 0 : (low + high) / 2;
+            positions[count] = start;
+            count++;
+        }
+
+        this.firstKeys = Arrays.copyOf(keys, count);
+        this.slopes = Arrays.copyOf(lines, count);
+        this.starts = Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Searches the key in the index.
+     *
+     * @param key the key to search
+     * @return the index of the first occurrence of key in the sorted array or -1 if not found
+     */
+    public int find(long key) {
+        int position = lowerBound(key);
+        return position < array.length && array[position] == key ? position : -1;
+    }
+
+    /**
+     * Finds the index in the sorted array of the first key not less than the given one.
+     *
+     * @param key the key to look for
+     * @return the index of the first key greater than or equal to key, or the size of the array if there is none
+     */
+    public int lowerBound(long key) {
+        int n = array.length;
+        if (n == 0 || key <= array[0]) {
+            return 0;
+        }
+
+        int segment = BinarySearch.upperBound(firstKeys, key) - 1;
+        int end = segment + 1 < starts.length ? starts[segment + 1] : n;
+        long predicted = starts[segment] + (long) (slopes[segment] * distance(key, firstKeys[segment]));
+        int guess = (int) Math.min(Math.max(predicted, starts[segment]), end);
+
+        int left = Math.max(0, guess - epsilon - 1);
+        int right = Math.min(n, guess + epsilon + 2);
+        if (left > 0 && array[left - 1] >= key) {
+            right = left;
+            left = gallopLeft(key, left);
+        } else if (right < n && array[right - 1] < key) {
+            left = right;
+            right = gallopRight(key, right);
+        }
+        return BinarySearch.lowerBound(array, key, left, right);
+    }
+
+    /**
+     * Returns the number of linear segments of the model.
+     *
+     * @return the number of segments
+     */
+    public int segments() {
+        return starts.length;
+    }
+
+    /**
+     * Returns the number of keys indexed.
+     *
+     * @return the length of the sorted array
+     */
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Widens the search to the left of position until the key is known to lie at or after the new start.
+     */
+    private int gallopLeft(long key, int position) {
+        int step = 1;
+        int left = position - step;
+        while (left > 0 && array[left - 1] >= key) {
+            step <<= 1;
+            left = Math.max(0, position - step);
+        }
+        return Math.max(0, left);
+    }
+
+    /**
+     * Widens the search to the right of position until the key is known to lie before the new end.
+     */
+    private int gallopRight(long key, int position) {
+        int n = array.length;
+        int step = 1;
+        int right = position + step;
+        while (right < n && array[right - 1] < key) {
+            step <<= 1;
+            right = (int) Math.min(n, (long) position + step);
+        }
+        return Math.min(n, right);
+    }
+
+    /**
+     * Index of the first element after position that differs from it.
+     */
+    private static int nextKey(long @NotNull [] sorted, int position) {
+        long key = sorted[position];
+        do {
+            position++;
+        } while (position < sorted.length && sorted[position] == key);
+        return position;
+    }
+
+    /**
+     * Exact distance from origin to key, which may exceed Long.MAX_VALUE, as a double.
+     */
+    private static double distance(long key, long origin) {
+        long difference = key - origin;
+        return difference >= 0 ? difference : difference + 0x1p64;
+    }
+}
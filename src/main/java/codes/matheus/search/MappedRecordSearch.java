@@ -0,0 +1,194 @@
+package codes.matheus.search;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A binary search over a file of fixed-width records sorted by key, performed in place on a memory mapping
+ * of the file.
+ *
+ * <p>The file is mapped read-only with {@link FileChannel#map}, so nothing is copied to the heap: the operating
+ * system pages in only the records the search touches and shares them between processes that map the same file.
+ * A single mapping cannot exceed 2 GB, so larger files are mapped as several consecutive regions, each holding a
+ * whole number of records; a record never straddles two regions.</p>
+ *
+ * <p>Records are compared by a big-endian, two's complement integer key of 1 to 8 bytes located at a fixed offset
+ * inside the record, the same layout {@link codes.matheus.sort.ExternalSort} sorts by. The file must be sorted by
+ * that key; this is not checked, as it would read the whole file.</p>
+ *
+ * <p>Time Complexity: O(log n) key reads per lookup, each one possibly a page fault on a cold file.</p>
+ *
+ * <p>Space Complexity: O(n / r) heap for the mapping table, where r is the number of records per mapping.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class MappedRecordSearch {
+    /**
+     * Largest size of a single mapping.
+     */
+    public static final int MAX_MAPPING_SIZE = Integer.MAX_VALUE;
+
+    private final int recordSize;
+    private final int keyOffset;
+    private final int keyWidth;
+    private final long recordsPerMapping;
+    private final long size;
+    private final @NotNull MappedByteBuffer @NotNull [] mappings;
+
+    /**
+     * Maps a file of sorted records.
+     *
+     * @param file the file to search
+     * @param recordSize size of each record in bytes
+     * @param keyOffset offset of the key inside the record
+     * @param keyWidth size of the key in bytes, from 1 to 8
+     * @throws IOException if the file cannot be opened or mapped
+     * @throws IllegalArgumentException if the key does not fit in the record or the file is not made of whole records
+     */
+    public MappedRecordSearch(@NotNull Path file,
+                              @Range(from = 1, to = Integer.MAX_VALUE) int recordSize,
+                              @Range(from = 0, to = Integer.MAX_VALUE) int keyOffset,
+                              @Range(from = 1, to = Long.BYTES) int keyWidth) throws IOException {
+        this(file, recordSize, keyOffset, keyWidth, MAX_MAPPING_SIZE);
+    }
+
+    /**
+     * Maps a file of sorted records with mappings of at most the given size.
+     *
+     * @param file the file to search
+     * @param recordSize size of each record in bytes
+     * @param keyOffset offset of the key inside the record
+     * @param keyWidth size of the key in bytes, from 1 to 8
+     * @param mappingSize maximum size of each mapping in bytes, rounded down to a whole number of records
+     * @throws IOException if the file cannot be opened or mapped
+     * @throws IllegalArgumentException if the key does not fit in the record, a mapping cannot hold a record
+     *                                  or the file is not made of whole records
+     */
+    public MappedRecordSearch(@NotNull Path file,
+                              @Range(from = 1, to = Integer.MAX_VALUE) int recordSize,
+                              @Range(from = 0, to = Integer.MAX_VALUE) int keyOffset,
+                              @Range(from = 1, to = Long.BYTES) int keyWidth,
+                              @Range(from = 1, to = MAX_MAPPING_SIZE) int mappingSize) throws IOException {
+        if (recordSize < 1) {
+            throw new IllegalArgumentException("record size must be positive: " + recordSize);
+        }
+        if (keyWidth < 1 || keyWidth > Long.BYTES) {
+            throw new IllegalArgumentException("key width must be between 1 and " + Long.BYTES + ": " + keyWidth);
+        }
+        if (keyOffset < 0 || (long) keyOffset + keyWidth > recordSize) {
+            throw new IllegalArgumentException("key [" + keyOffset + ", " + ((long) keyOffset + keyWidth) + ") does not fit in a record of " + recordSize + " bytes");
+        }
+        if (mappingSize < recordSize) {
+            throw new IllegalArgumentException("mapping size " + mappingSize + " cannot hold a record of " + recordSize + " bytes");
+        }
+        this.recordSize = recordSize;
+        this.keyOffset = keyOffset;
+        this.keyWidth = keyWidth;
+        this.recordsPerMapping = mappingSize / recordSize;
+
+        // the mappings stay valid after the channel is closed, until they are garbage collected
+        try (@NotNull FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length % recordSize != 0) {
+                throw new IllegalArgumentException("file size " + length + " is not a multiple of the record size " + recordSize);
+            }
+            this.size = length / recordSize;
+
+            int count = (int) ((size + recordsPerMapping - 1) / recordsPerMapping);
+            this.mappings = new MappedByteBuffer[count];
+            long bytesPerMapping = recordsPerMapping * recordSize;
+            for (int i = 0; i < count; i++) {
+                long position = i * bytesPerMapping;
+                mappings[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(bytesPerMapping, length - position));
+            }
+        }
+    }
+
+    /**
+     * Searches the key in the file.
+     *
+     * @param key the key to search
+     * @return the index of the first record with the key or -1 if not found
+     */
+    public long find(long key) {
+        long record = lowerBound(key);
+        return record < size && key(record) == key ? record : -1;
+    }
+
+    /**
+     * Finds the first record whose key is not less than the given one.
+     *
+     * @param key the key to look for
+     * @return the index of the first record with a key greater than or equal to key, or the number of records if there is none
+     */
+    public long lowerBound(long key) {
+        long left = 0;
+        long right = size;
+
+        while (left < right) {
+            long median = (left + right) >>> 1;
+            if (key(median) < key) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Reads the key of a record.
+     *
+     * @param record the index of the record
+     * @return the sign-extended key of the record
+     * @throws IndexOutOfBoundsException if there is no such record
+     */
+    public long key(@Range(from = 0, to = Long.MAX_VALUE) long record) {
+        @NotNull ByteBuffer mapping = mappings[(int) (record / recordsPerMapping)];
+        int start = (int) (record % recordsPerMapping) * recordSize + keyOffset;
+
+        switch (keyWidth) {
+            case Long.BYTES:
+                return mapping.getLong(start);
+            case Integer.BYTES:
+                return mapping.getInt(start);
+            case Short.BYTES:
+                return mapping.getShort(start);
+            default:
+                long key = mapping.get(start);
+                for (int i = 1; i < keyWidth; i++) {
+                    key = (key << 8) | (mapping.get(start + i) & 0xFF);
+                }
+                return key;
+        }
+    }
+
+    /**
+     * Returns a read-only view of a record, backed by the mapping without copying it.
+     *
+     * @param record the index of the record
+     * @return a buffer positioned at the start of the record with the record size as limit
+     * @throws IndexOutOfBoundsException if there is no such record
+     */
+    public @NotNull ByteBuffer record(@Range(from = 0, to = Long.MAX_VALUE) long record) {
+        @NotNull ByteBuffer mapping = mappings[(int) (record / recordsPerMapping)];
+        int start = (int) (record % recordsPerMapping) * recordSize;
+        return mapping.slice(start, recordSize).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the number of records in the file.
+     *
+     * @return the number of records
+     */
+    public long size() {
+        return size;
+    }
+}
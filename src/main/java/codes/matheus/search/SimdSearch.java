@@ -0,0 +1,201 @@
+package codes.matheus.search;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Binary and k-ary searches over primitive arrays that hand the last steps to SIMD instructions through the
+ * incubating Vector API ({@code jdk.incubator.vector}).
+ *
+ * <p>A scalar binary search ends with a few compare-and-branch steps whose outcome the CPU cannot predict.
+ * Here the binary search stops once the range holds at most a few vectors (16 to 64 elements), and the elements
+ * of that range that are less than the key are counted with vector compares, which gives the answer without
+ * any data-dependent branch. The k-ary variant also replaces the binary steps: each step loads one separator
+ * per lane and compares them all at once, so the range shrinks by a factor of lanes + 1 instead of 2.</p>
+ *
+ * <p>The Vector API is an incubating module, so it must be enabled with {@code --add-modules jdk.incubator.vector}
+ * at run time. When the module is absent, or the CPU has no vector registers, every method falls back to the
+ * scalar search of {@link BinarySearch} and returns the same results. The floating point searches follow
+ * {@link Double#compare} and {@link Float#compare} like {@link BinarySearch}; zero and NaN keys, where that order
+ * differs from the IEEE comparison of the vector instructions, always take the scalar path.</p>
+ *
+ * <p>Worst-case performance O(log n) Best-case performance O(log n) Worst-case space complexity O(1)</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class SimdSearch {
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && VectorSearchKernels.isSupported();
+
+    private SimdSearch() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * Tells whether the searches run on vector instructions or on the scalar fallback.
+     *
+     * @return true if the Vector API module is present and the CPU has vector registers
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * This method searches a sorted primitive int array, finishing with a vector scan of the last elements.
+     *
+     * @param array a sorted int array
+     * @param key the key to search in array
+     * @return the index of the first occurrence of key in the array or -1 if not found
+     *
+     * */
+    public static int find(int @NotNull [] array, int key) {
+        int index = lowerBound(array, key);
+        return index < array.length && array[index] == key ? index : -1;
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive int array whose element is not less than the key,
+     * finishing with a vector scan of the last elements.
+     *
+     * @param array a sorted int array
+     * @param key the key to search in array
+     * @return the index of the first element greater than or equal to key, or array.length if there is none
+     *
+     * */
+    public static int lowerBound(int @NotNull [] array, int key) {
+        return VECTORIZED ? VectorSearchKernels.lowerBound(array, key) : BinarySearch.lowerBound(array, key);
+    }
+
+    /**
+     * This method searches a sorted primitive int array with a k-ary search: each step compares the key
+     * with one separator per vector lane at once and keeps the part between the two separators around it.
+     *
+     * @param array a sorted int array
+     * @param key the key to search in array
+     * @return the index of the first occurrence of key in the array or -1 if not found
+     *
+     * */
+    public static int findKAry(int @NotNull [] array, int key) {
+        int index = VECTORIZED ? VectorSearchKernels.lowerBoundKAry(array, key) : BinarySearch.lowerBound(array, key);
+        return index < array.length && array[index] == key ? index : -1;
+    }
+
+    /**
+     * This method searches a sorted primitive long array, finishing with a vector scan of the last elements.
+     *
+     * @param array a sorted long array
+     * @param key the key to search in array
+     * @return the index of the first occurrence of key in the array or -1 if not found
+     *
+     * */
+    public static int find(long @NotNull [] array, long key) {
+        int index = lowerBound(array, key);
+        return index < array.length && array[index] == key ? index : -1;
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive long array whose element is not less than the key,
+     * finishing with a vector scan of the last elements.
+     *
+     * @param array a sorted long array
+     * @param key the key to search in array
+     * @return the index of the first element greater than or equal to key, or array.length if there is none
+     *
+     * */
+    public static int lowerBound(long @NotNull [] array, long key) {
+        return VECTORIZED ? VectorSearchKernels.lowerBound(array, key) : BinarySearch.lowerBound(array, key);
+    }
+
+    /**
+     * This method searches a sorted primitive long array with a k-ary search: each step compares the key
+     * with one separator per vector lane at once and keeps the part between the two separators around it.
+     *
+     * @param array a sorted long array
+     * @param key the key to search in array
+     * @return the index of the first occurrence of key in the array or -1 if not found
+     *
+     * */
+    public static int findKAry(long @NotNull [] array, long key) {
+        int index = VECTORIZED ? VectorSearchKernels.lowerBoundKAry(array, key) : BinarySearch.lowerBound(array, key);
+        return index < array.length && array[index] == key ? index : -1;
+    }
+
+    /**
+     * This method searches a sorted primitive float array in the order defined by {@link Float#compare(float, float)}, finishing with a vector scan of the last elements.
+     *
+     * @param array a sorted float array
+     * @param key the key to search in array
+     * @return the index of the first occurrence of key in the array or -1 if not found
+     *
+     * */
+    public static int find(float @NotNull [] array, float key) {
+        int index = lowerBound(array, key);
+        return index < array.length && Float.compare(array[index], key) == 0 ? index : -1;
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive float array in the order defined by {@link Float#compare(float, float)} whose element is not less than the key,
+     * finishing with a vector scan of the last elements.
+     *
+     * @param array a sorted float array
+     * @param key the key to search in array
+     * @return the index of the first element greater than or equal to key, or array.length if there is none
+     *
+     * */
+    public static int lowerBound(float @NotNull [] array, float key) {
+        return VECTORIZED && key != 0 && key == key ? VectorSearchKernels.lowerBound(array, key) : BinarySearch.lowerBound(array, key);
+    }
+
+    /**
+     * This method searches a sorted primitive float array in the order defined by {@link Float#compare(float, float)} with a k-ary search: each step compares the key
+     * with one separator per vector lane at once and keeps the part between the two separators around it.
+     *
+     * @param array a sorted float array
+     * @param key the key to search in array
+     * @return the index of the first occurrence of key in the array or -1 if not found
+     *
+     * */
+    public static int findKAry(float @NotNull [] array, float key) {
+        int index = VECTORIZED && key != 0 && key == key ? VectorSearchKernels.lowerBoundKAry(array, key) : BinarySearch.lowerBound(array, key);
+        return index < array.length && Float.compare(array[index], key) == 0 ? index : -1;
+    }
+
+    /**
+     * This method searches a sorted primitive double array in the order defined by {@link Double#compare(double, double)}, finishing with a vector scan of the last elements.
+     *
+     * @param array a sorted double array
+     * @param key the key to search in array
+     * @return the index of the first occurrence of key in the array or -1 if not found
+     *
+     * */
+    public static int find(double @NotNull [] array, double key) {
+        int index = lowerBound(array, key);
+        return index < array.length && Double.compare(array[index], key) == 0 ? index : -1;
+    }
+
+    /**
+     * This method finds the first position in a sorted primitive double array in the order defined by {@link Double#compare(double, double)} whose element is not less than the key,
+     * finishing with a vector scan of the last elements.
+     *
+     * @param array a sorted double array
+     * @param key the key to search in array
+     * @return the index of the first element greater than or equal to key, or array.length if there is none
+     *
+     * */
+    public static int lowerBound(double @NotNull [] array, double key) {
+        return VECTORIZED && key != 0 && key == key ? VectorSearchKernels.lowerBound(array, key) : BinarySearch.lowerBound(array, key);
+    }
+
+    /**
+     * This method searches a sorted primitive double array in the order defined by {@link Double#compare(double, double)} with a k-ary search: each step compares the key
+     * with one separator per vector lane at once and keeps the part between the two separators around it.
+     *
+     * @param array a sorted double array
+     * @param key the key to search in array
+     * @return the index of the first occurrence of key in the array or -1 if not found
+     *
+     * */
+    public static int findKAry(double @NotNull [] array, double key) {
+        int index = VECTORIZED && key != 0 && key == key ? VectorSearchKernels.lowerBoundKAry(array, key) : BinarySearch.lowerBound(array, key);
+        return index < array.length && Double.compare(array[index], key) == 0 ? index : -1;
+    }
+}
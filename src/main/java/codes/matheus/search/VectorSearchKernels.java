@@ -0,0 +1,274 @@
+package codes.matheus.search;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Kernels of {@link SimdSearch} written with the incubating Vector API. This class is only loaded when the
+ * {@code jdk.incubator.vector} module is present.
+ *
+ * <p>The floating point kernels compare with IEEE {@code <}, which agrees with {@link Double#compare} and
+ * {@link Float#compare} for keys that are neither zero nor NaN; the caller routes those keys to the scalar path.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+final class VectorSearchKernels {
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Size of the tail left to the vector scan: a few vectors, between 16 and 64 elements.
+     */
+    private static final int INT_WINDOW = window(INT_SPECIES);
+    private static final int LONG_WINDOW = window(LONG_SPECIES);
+    private static final int FLOAT_WINDOW = window(FLOAT_SPECIES);
+    private static final int DOUBLE_WINDOW = window(DOUBLE_SPECIES);
+
+    /**
+     * Per-thread buffers the k-ary searches load their separators into, so a search does not allocate.
+     */
+    private static final ThreadLocal<int[]> INT_SEPARATORS = ThreadLocal.withInitial(() -> new int[INT_SPECIES.length()]);
+    private static final ThreadLocal<long[]> LONG_SEPARATORS = ThreadLocal.withInitial(() -> new long[LONG_SPECIES.length()]);
+    private static final ThreadLocal<float[]> FLOAT_SEPARATORS = ThreadLocal.withInitial(() -> new float[FLOAT_SPECIES.length()]);
+    private static final ThreadLocal<double[]> DOUBLE_SEPARATORS = ThreadLocal.withInitial(() -> new double[DOUBLE_SPECIES.length()]);
+
+    private VectorSearchKernels() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * Tells whether the platform has real vector registers; without them the Vector API only emulates lanes.
+     *
+     * @return true if vectors of at least 128 bits are available
+     */
+    static boolean isSupported() {
+        return INT_SPECIES.vectorBitSize() >= 128;
+    }
+
+    static int lowerBound(int @NotNull [] array, int key) {
+        int left = 0;
+        int right = array.length;
+        while (right - left > INT_WINDOW) {
+            int median = (left + right) >>> 1;
+            if (array[median] < key) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left + countLess(array, key, left, right);
+    }
+
+    static int lowerBoundKAry(int @NotNull [] array, int key) {
+        int lanes = INT_SPECIES.length();
+        int[] separators = INT_SEPARATORS.get();
+        int left = 0;
+        int right = array.length;
+        while (right - left > INT_WINDOW) {
+            // lanes separators split [left, right) into lanes + 1 parts; counting those below the key picks the part.
+            // They are read with independent scalar loads, whose cache misses overlap, rather than a gather,
+            // which is slow on AVX2 and miscompiled by some JDK 17 builds
+            int step = (right - left) / (lanes + 1);
+            int first = left + step - 1;
+            for (int j = 0; j < lanes; j++) {
+                separators[j] = array[first + j * step];
+            }
+            int below = IntVector.fromArray(INT_SPECIES, separators, 0).compare(VectorOperators.LT, key).trueCount();
+            left += below * step;
+            if (below < lanes) {
+                right = first + below * step;
+            }
+        }
+        return left + countLess(array, key, left, right);
+    }
+
+    /**
+     * Counts the elements of [from, to) less than the key, whole vectors at a time.
+     */
+    private static int countLess(int @NotNull [] array, int key, int from, int to) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + INT_SPECIES.loopBound(to - from); i < bound; i += INT_SPECIES.length()) {
+            count += IntVector.fromArray(INT_SPECIES, array, i).compare(VectorOperators.LT, key).trueCount();
+        }
+        for (; i < to; i++) {
+            if (array[i] < key) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int lowerBound(long @NotNull [] array, long key) {
+        int left = 0;
+        int right = array.length;
+        while (right - left > LONG_WINDOW) {
+            int median = (left + right) >>> 1;
+            if (array[median] < key) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left + countLess(array, key, left, right);
+    }
+
+    static int lowerBoundKAry(long @NotNull [] array, long key) {
+        int lanes = LONG_SPECIES.length();
+        long[] separators = LONG_SEPARATORS.get();
+        int left = 0;
+        int right = array.length;
+        while (right - left > LONG_WINDOW) {
+            // lanes separators split [left, right) into lanes + 1 parts; counting those below the key picks the part.
+            // They are read with independent scalar loads, whose cache misses overlap, rather than a gather,
+            // which is slow on AVX2 and miscompiled by some JDK 17 builds
+            int step = (right - left) / (lanes + 1);
+            int first = left + step - 1;
+            for (int j = 0; j < lanes; j++) {
+                separators[j] = array[first + j * step];
+            }
+            int below = LongVector.fromArray(LONG_SPECIES, separators, 0).compare(VectorOperators.LT, key).trueCount();
+            left += below * step;
+            if (below < lanes) {
+                right = first + below * step;
+            }
+        }
+        return left + countLess(array, key, left, right);
+    }
+
+    /**
+     * Counts the elements of [from, to) less than the key, whole vectors at a time.
+     */
+    private static int countLess(long @NotNull [] array, long key, int from, int to) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + LONG_SPECIES.loopBound(to - from); i < bound; i += LONG_SPECIES.length()) {
+            count += LongVector.fromArray(LONG_SPECIES, array, i).compare(VectorOperators.LT, key).trueCount();
+        }
+        for (; i < to; i++) {
+            if (array[i] < key) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int lowerBound(float @NotNull [] array, float key) {
+        int left = 0;
+        int right = array.length;
+        while (right - left > FLOAT_WINDOW) {
+            int median = (left + right) >>> 1;
+            if (array[median] < key) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left + countLess(array, key, left, right);
+    }
+
+    static int lowerBoundKAry(float @NotNull [] array, float key) {
+        int lanes = FLOAT_SPECIES.length();
+        float[] separators = FLOAT_SEPARATORS.get();
+        int left = 0;
+        int right = array.length;
+        while (right - left > FLOAT_WINDOW) {
+            // lanes separators split [left, right) into lanes + 1 parts; counting those below the key picks the part.
+            // They are read with independent scalar loads, whose cache misses overlap, rather than a gather,
+            // which is slow on AVX2 and miscompiled by some JDK 17 builds
+            int step = (right - left) / (lanes + 1);
+            int first = left + step - 1;
+            for (int j = 0; j < lanes; j++) {
+                separators[j] = array[first + j * step];
+            }
+            int below = FloatVector.fromArray(FLOAT_SPECIES, separators, 0).compare(VectorOperators.LT, key).trueCount();
+            left += below * step;
+            if (below < lanes) {
+                right = first + below * step;
+            }
+        }
+        return left + countLess(array, key, left, right);
+    }
+
+    /**
+     * Counts the elements of [from, to) less than the key, whole vectors at a time.
+     */
+    private static int countLess(float @NotNull [] array, float key, int from, int to) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + FLOAT_SPECIES.loopBound(to - from); i < bound; i += FLOAT_SPECIES.length()) {
+            count += FloatVector.fromArray(FLOAT_SPECIES, array, i).compare(VectorOperators.LT, key).trueCount();
+        }
+        for (; i < to; i++) {
+            if (array[i] < key) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int lowerBound(double @NotNull [] array, double key) {
+        int left = 0;
+        int right = array.length;
+        while (right - left > DOUBLE_WINDOW) {
+            int median = (left + right) >>> 1;
+            if (array[median] < key) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left + countLess(array, key, left, right);
+    }
+
+    static int lowerBoundKAry(double @NotNull [] array, double key) {
+        int lanes = DOUBLE_SPECIES.length();
+        double[] separators = DOUBLE_SEPARATORS.get();
+        int left = 0;
+        int right = array.length;
+        while (right - left > DOUBLE_WINDOW) {
+            // lanes separators split [left, right) into lanes + 1 parts; counting those below the key picks the part.
+            // They are read with independent scalar loads, whose cache misses overlap, rather than a gather,
+            // which is slow on AVX2 and miscompiled by some JDK 17 builds
+            int step = (right - left) / (lanes + 1);
+            int first = left + step - 1;
+            for (int j = 0; j < lanes; j++) {
+                separators[j] = array[first + j * step];
+            }
+            int below = DoubleVector.fromArray(DOUBLE_SPECIES, separators, 0).compare(VectorOperators.LT, key).trueCount();
+            left += below * step;
+            if (below < lanes) {
+                right = first + below * step;
+            }
+        }
+        return left + countLess(array, key, left, right);
+    }
+
+    /**
+     * Counts the elements of [from, to) less than the key, whole vectors at a time.
+     */
+    private static int countLess(double @NotNull [] array, double key, int from, int to) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + DOUBLE_SPECIES.loopBound(to - from); i < bound; i += DOUBLE_SPECIES.length()) {
+            count += DoubleVector.fromArray(DOUBLE_SPECIES, array, i).compare(VectorOperators.LT, key).trueCount();
+        }
+        for (; i < to; i++) {
+            if (array[i] < key) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int window(@NotNull VectorSpecies<?> species) {
+        return Math.max(16, Math.min(64, 8 * species.length()));
+    }
+}
@@ -0,0 +1,309 @@
+package codes.matheus.sort;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.Comparator;
+
+/**
+ * Index sorting (argsort): computes the permutation that would sort an array without moving its elements.
+ *
+ * <p>The returned permutation {@code p} lists the original indices in sorted order, so {@code array[p[0]]}
+ * is the smallest element. Equal elements keep their original relative order. The permutation can then be
+ * applied in place to any number of parallel (columnar) arrays with {@link #apply(int[], Object...)}, which
+ * follows each cycle of the permutation once and moves every column along it.</p>
+ *
+ * <p>Primitive keys are sorted as {@code long}s; {@code double} and {@code float} keys are first mapped to
+ * integers that order like {@link Double#compare(double, double)} and {@link Float#compare(float, float)}.</p>
+ *
+ * <p>Time Complexity: O(n log n) for the sort, O(n * c) for applying it to c columns.</p>
+ *
+ * <p>Space Complexity: O(n) – the permutation and the sorting buffers.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class ArgSort {
+    private ArgSort() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * Computes the permutation that sorts an int array.
+     *
+     * @param array the keys, left untouched
+     * @return the original indices in ascending key order
+     */
+    public static int @NotNull [] sort(int @NotNull [] array) {
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = array[i];
+        }
+        return sortKeys(keys);
+    }
+
+    /**
+     * Computes the permutation that sorts a long array.
+     *
+     * @param array the keys, left untouched
+     * @return the original indices in ascending key order
+     */
+    public static int @NotNull [] sort(long @NotNull [] array) {
+        return sortKeys(array.clone());
+    }
+
+    /**
+     * Computes the permutation that sorts a double array in the order defined by {@link Double#compare(double, double)}.
+     *
+     * @param array the keys, left untouched
+     * @return the original indices in ascending key order
+     */
+    public static int @NotNull [] sort(double @NotNull [] array) {
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            long bits = Double.doubleToLongBits(array[i]);
+            keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        return sortKeys(keys);
+    }
+
+    /**
+     * Computes the permutation that sorts a float array in the order defined by {@link Float#compare(float, float)}.
+     *
+     * @param array the keys, left untouched
+     * @return the original indices in ascending key order
+     */
+    public static int @NotNull [] sort(float @NotNull [] array) {
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            int bits = Float.floatToIntBits(array[i]);
+            keys[i] = bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+        }
+        return sortKeys(keys);
+    }
+
+    /**
+     * Computes the permutation that sorts a generic array.
+     *
+     * @param array the elements, left untouched
+     * @param <T> the type of elements in the array extends comparable
+     * @return the original indices in ascending order
+     */
+    public static <T extends Comparable<T>> int @NotNull [] sort(@NotNull T[] array) {
+        return sort(array, Comparator.naturalOrder());
+    }
+
+    /**
+     * Computes the permutation that sorts a generic array in the order induced by a comparator.
+     *
+     * @param array the elements, left untouched
+     * @param comparator the comparator that defines the order
+     * @param <T> the type of elements in the array
+     * @return the original indices in ascending order
+     */
+    public static <T> int @NotNull [] sort(@NotNull T[] array, @NotNull Comparator<? super T> comparator) {
+        int[] permutation = KeySort.identity(array.length);
+        KeySort.sortPairs(array.clone(), permutation, comparator);
+        return permutation;
+    }
+
+    /**
+     * Reorders every column in place so that {@code column[i]} becomes the old {@code column[permutation[i]]}.
+     * Each column may be an {@code int[]}, {@code long[]}, {@code double[]}, {@code float[]} or an object array.
+     *
+     * @param permutation a permutation of 0 to n - 1, such as the result of {@code sort}; its entries are marked
+     *                    while cycles are followed and restored before returning
+     * @param columns arrays of length n to reorder
+     * @throws IllegalArgumentException if the permutation is invalid, a column has another length or an unsupported type
+     */
+    public static void apply(int @NotNull [] permutation, @NotNull Object... columns) {
+        int length = permutation.length;
+        @NotNull Column[] wrapped = new Column[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            wrapped[c] = Column.of(columns[c], length);
+        }
+        checkPermutation(permutation);
+
+        for (int start = 0; start < length; start++) {
+            if (permutation[start] < 0) continue;
+            for (@NotNull Column column : wrapped) {
+                column.save(start);
+            }
+
+            int current = start;
+            while (true) {
+                int next = permutation[current];
+                permutation[current] = ~next;
+                if (next == start) break;
+                for (@NotNull Column column : wrapped) {
+                    column.move(next, current);
+                }
+                current = next;
+            }
+
+            for (@NotNull Column column : wrapped) {
+                column.restore(current);
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            permutation[i] = ~permutation[i];
+        }
+    }
+
+    private static int @NotNull [] sortKeys(long @NotNull [] keys) {
+        int[] permutation = KeySort.identity(keys.length);
+        KeySort.sortPairs(keys, permutation);
+        return permutation;
+    }
+
+    private static void checkPermutation(int @NotNull [] permutation) {
+        @NotNull BitSet seen = new BitSet(permutation.length);
+        for (int index : permutation) {
+            if (index < 0 || index >= permutation.length || seen.get(index)) {
+                throw new IllegalArgumentException("not a permutation of 0.." + (permutation.length - 1) + ": " + index);
+            }
+            seen.set(index);
+        }
+    }
+
+    /**
+     * One column being permuted: holds the element saved at the start of a cycle.
+     */
+    private interface Column {
+        void save(int index);
+
+        void move(int from, int to);
+
+        void restore(int index);
+
+        static @NotNull Column of(@NotNull Object array, int length) {
+            if (array instanceof int[] ints && ints.length == length) return new IntColumn(ints);
+            if (array instanceof long[] longs && longs.length == length) return new LongColumn(longs);
+            if (array instanceof double[] doubles && doubles.length == length) return new DoubleColumn(doubles);
+            if (array instanceof float[] floats && floats.length == length) return new FloatColumn(floats);
+            if (array instanceof Object[] objects && objects.length == length) return new ObjectColumn(objects);
+            throw new IllegalArgumentException("column must be an int[], long[], double[], float[] or object array of length " + length + ": " + array.getClass().getSimpleName());
+        }
+    }
+
+    private static final class IntColumn implements Column {
+        private final int[] array;
+        private int saved;
+
+        private IntColumn(int[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public void save(int index) {
+            saved = array[index];
+        }
+
+        @Override
+        public void move(int from, int to) {
+            array[to] = array[from];
+        }
+
+        @Override
+        public void restore(int index) {
+            array[index] = saved;
+        }
+    }
+
+    private static final class LongColumn implements Column {
+        private final long[] array;
+        private long saved;
+
+        private LongColumn(long[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public void save(int index) {
+            saved = array[index];
+        }
+
+        @Override
+        public void move(int from, int to) {
+            array[to] = array[from];
+        }
+
+        @Override
+        public void restore(int index) {
+            array[index] = saved;
+        }
+    }
+
+    private static final class DoubleColumn implements Column {
+        private final double[] array;
+        private double saved;
+
+        private DoubleColumn(double[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public void save(int index) {
+            saved = array[index];
+        }
+
+        @Override
+        public void move(int from, int to) {
+            array[to] = array[from];
+        }
+
+        @Override
+        public void restore(int index) {
+            array[index] = saved;
+        }
+    }
+
+    private static final class FloatColumn implements Column {
+        private final float[] array;
+        private float saved;
+
+        private FloatColumn(float[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public void save(int index) {
+            saved = array[index];
+        }
+
+        @Override
+        public void move(int from, int to) {
+            array[to] = array[from];
+        }
+
+        @Override
+        public void restore(int index) {
+            array[index] = saved;
+        }
+    }
+
+    private static final class ObjectColumn implements Column {
+        private final Object[] array;
+        private Object saved;
+
+        private ObjectColumn(Object[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public void save(int index) {
+            saved = array[index];
+        }
+
+        @Override
+        public void move(int from, int to) {
+            array[to] = array[from];
+        }
+
+        @Override
+        public void restore(int index) {
+            array[index] = saved;
+            saved = null;
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package codes.matheus.sort;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * An external merge sort for files of fixed-width records that do not fit in the heap.
+ *
+ * <p>The sort runs in two phases. First the input is read through a {@link FileChannel} in chunks that fit
+ * the memory budget; the keys of each chunk are sorted in memory with {@link KeySort} and the chunk is
+ * written to a temporary file as a sorted run. Then the runs are merged k at a time with a min-heap,
+ * each run read through its own buffer, until a single pass writes the output file. When there are more
+ * runs than buffers fit in the budget, intermediate passes merge them into longer runs first.</p>
+ *
+ * <p>Records are compared by a big-endian, two's complement integer key of 1 to 8 bytes located at a fixed
+ * offset inside the record. Records with equal keys keep their input order.</p>
+ *
+ * <p>Time Complexity: O(n log n) comparisons, with O(n log<sub>k</sub>(n / m)) bytes of I/O, where m is the
+ * number of records per chunk and k the merge fan-in.</p>
+ *
+ * <p>Space Complexity: O(memoryBudget) of heap, plus temporary files about the size of the input.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class ExternalSort {
+    /**
+     * Size of the buffer used to write runs and output.
+     */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Smallest read buffer a run may get during a merge; bounds the fan-in for a given budget.
+     */
+    private static final int MIN_READ_BUFFER_SIZE = 1 << 12;
+
+    /**
+     * Heap bytes needed per record while sorting a chunk besides the record itself: the key, the
+     * position and their merge buffers.
+     */
+    private static final int SORT_OVERHEAD_PER_RECORD = 2 * (Long.BYTES + Integer.BYTES);
+
+    private final int recordSize;
+    private final int keyOffset;
+    private final int keyWidth;
+    private final long memoryBudget;
+    private final @NotNull RunFiles runFiles;
+
+    /**
+     * Constructor
+     *
+     * @param recordSize size of each record in bytes
+     * @param keyOffset offset of the key inside the record
+     * @param keyWidth size of the key in bytes, from 1 to 8
+     * @param memoryBudget approximate number of heap bytes the sort may use for buffers
+     * @param tempDirectory directory where the sorted runs are spilled
+     * @throws IllegalArgumentException if the key does not fit in the record or the budget cannot hold a record
+     */
+    public ExternalSort(@Range(from = 1, to = Integer.MAX_VALUE) int recordSize,
+                        @Range(from = 0, to = Integer.MAX_VALUE) int keyOffset,
+                        @Range(from = 1, to = Long.BYTES) int keyWidth,
+                        @Range(from = 1, to = Long.MAX_VALUE) long memoryBudget,
+                        @NotNull Path tempDirectory) {
+        this(recordSize, keyOffset, keyWidth, memoryBudget, () -> Files.createTempFile(tempDirectory, "run-", ".bin"));
+    }
+
+    /**
+     * Constructor with a custom source of run files
+     *
+     * @param recordSize size of each record in bytes
+     * @param keyOffset offset of the key inside the record
+     * @param keyWidth size of the key in bytes, from 1 to 8
+     * @param memoryBudget approximate number of heap bytes the sort may use for buffers
+     * @param runFiles creates the files the sorted runs are spilled to
+     * @throws IllegalArgumentException if the key does not fit in the record or the budget cannot hold a record
+     */
+    public ExternalSort(@Range(from = 1, to = Integer.MAX_VALUE) int recordSize,
+                        @Range(from = 0, to = Integer.MAX_VALUE) int keyOffset,
+                        @Range(from = 1, to = Long.BYTES) int keyWidth,
+                        @Range(from = 1, to = Long.MAX_VALUE) long memoryBudget,
+                        @NotNull RunFiles runFiles) {
+        if (recordSize < 1) {
+            throw new IllegalArgumentException("record size must be positive: " + recordSize);
+        }
+        if (keyWidth < 1 || keyWidth > Long.BYTES) {
+            throw new IllegalArgumentException("key width must be between 1 and " + Long.BYTES + ": " + keyWidth);
+        }
+        if (keyOffset < 0 || (long) keyOffset + keyWidth > recordSize) {
+            throw new IllegalArgumentException("key [" + keyOffset + ", " + ((long) keyOffset + keyWidth) + ") does not fit in a record of " + recordSize + " bytes");
+        }
+        if (memoryBudget < 3L * Math.max(recordSize, MIN_READ_BUFFER_SIZE) + WRITE_BUFFER_SIZE) {
+            throw new IllegalArgumentException("memory budget " + memoryBudget + " is too small for records of " + recordSize + " bytes");
+        }
+        this.recordSize = recordSize;
+        this.keyOffset = keyOffset;
+        this.keyWidth = keyWidth;
+        this.memoryBudget = memoryBudget;
+        this.runFiles = runFiles;
+    }
+
+    /**
+     * Sorts the records of the input file into the output file. The input is left untouched.
+     *
+     * @param input file of fixed-width records
+     * @param output file that receives the sorted records; created or truncated
+     * @throws IOException if reading, spilling or writing fails
+     * @throws IllegalArgumentException if the input size is not a multiple of the record size
+     */
+    public void sort(@NotNull Path input, @NotNull Path output) throws IOException {
+        @NotNull List<Path> runs = new ArrayList<>();
+        // runs written by the current merge pass, deleted with the others if the pass fails
+        @NotNull List<Path> merged = new ArrayList<>();
+        try {
+            try (@NotNull FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+                if (channel.size() % recordSize != 0) {
+                    throw new IllegalArgumentException("input size " + channel.size() + " is not a multiple of the record size " + recordSize);
+                }
+                createRuns(channel, runs);
+            }
+
+            int fanIn = fanIn();
+            while (runs.size() > fanIn) {
+                merged = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    @NotNull List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                    @NotNull Path run = runFiles.create();
+                    merged.add(run);
+                    merge(group, run);
+                    for (@NotNull Path done : group) {
+                        Files.deleteIfExists(done);
+                    }
+                }
+                runs = merged;
+            }
+
+            merge(runs, output);
+        } finally {
+            for (@NotNull Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            for (@NotNull Path run : merged) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Reads the input chunk by chunk, writing each chunk sorted to its own run file.
+     */
+    private void createRuns(@NotNull FileChannel channel, @NotNull List<Path> runs) throws IOException {
+        long totalRecords = channel.size() / recordSize;
+        if (totalRecords == 0) return;
+
+        long budget = memoryBudget - WRITE_BUFFER_SIZE;
+        long chunkRecords = Math.min(totalRecords, Math.max(1, budget / (recordSize + SORT_OVERHEAD_PER_RECORD)));
+        chunkRecords = Math.min(chunkRecords, Integer.MAX_VALUE / recordSize);
+
+        @NotNull ByteBuffer chunk = ByteBuffer.allocate((int) chunkRecords * recordSize);
+        @NotNull ByteBuffer writeBuffer = ByteBuffer.allocate(writeBufferSize());
+        byte[] bytes = chunk.array();
+
+        while (true) {
+            chunk.clear();
+            while (chunk.hasRemaining() && channel.read(chunk) >= 0) {
+                // keep reading until the chunk is full or the input ends
+            }
+            int count = chunk.position() / recordSize;
+            if (count == 0) return;
+
+            long[] keys = new long[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = key(bytes, i * recordSize);
+            }
+            int[] positions = KeySort.identity(count);
+            KeySort.sortPairs(keys, positions);
+
+            @NotNull Path run = runFiles.create();
+            runs.add(run);
+            try (@NotNull FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeBuffer.clear();
+                for (int position : positions) {
+                    if (writeBuffer.remaining() < recordSize) {
+                        flush(writeBuffer, out);
+                    }
+                    writeBuffer.put(bytes, position * recordSize, recordSize);
+                }
+                flush(writeBuffer, out);
+            }
+
+            if (count < chunkRecords) return;
+        }
+    }
+
+    /**
+     * Merges the sorted runs into the target file with a min-heap over the head record of each run.
+     */
+    private void merge(@NotNull List<Path> runs, @NotNull Path target) throws IOException {
+        int readBufferSize = roundToRecords(Math.min(Integer.MAX_VALUE / 2, (memoryBudget - WRITE_BUFFER_SIZE) / Math.max(1, runs.size())));
+        @NotNull PriorityQueue<RunReader> heap = new PriorityQueue<>(Math.max(1, runs.size()),
+                Comparator.comparingLong((RunReader reader) -> reader.key).thenComparingInt(reader -> reader.index));
+        @NotNull List<RunReader> readers = new ArrayList<>(runs.size());
+
+        try (@NotNull FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int i = 0; i < runs.size(); i++) {
+                @NotNull RunReader reader = new RunReader(FileChannel.open(runs.get(i), StandardOpenOption.READ), i, readBufferSize);
+                readers.add(reader);
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+            }
+
+            @NotNull ByteBuffer writeBuffer = ByteBuffer.allocate(writeBufferSize());
+            while (!heap.isEmpty()) {
+                @NotNull RunReader reader = heap.poll();
+                if (writeBuffer.remaining() < recordSize) {
+                    flush(writeBuffer, out);
+                }
+                writeBuffer.put(reader.buffer.array(), reader.recordStart, recordSize);
+
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+            }
+            flush(writeBuffer, out);
+        } finally {
+            for (@NotNull RunReader reader : readers) {
+                reader.channel.close();
+            }
+        }
+    }
+
+    /**
+     * Decodes the big-endian, sign-extended key of the record starting at the given offset.
+     */
+    private long key(byte[] bytes, int recordStart) {
+        int start = recordStart + keyOffset;
+        long key = bytes[start];
+        for (int i = 1; i < keyWidth; i++) {
+            key = (key << 8) | (bytes[start + i] & 0xFF);
+        }
+        return key;
+    }
+
+    private int fanIn() {
+        long perRun = Math.max(recordSize, MIN_READ_BUFFER_SIZE);
+        return (int) Math.max(2, Math.min(Integer.MAX_VALUE, (memoryBudget - WRITE_BUFFER_SIZE) / perRun));
+    }
+
+    private int writeBufferSize() {
+        return roundToRecords(WRITE_BUFFER_SIZE);
+    }
+
+    /**
+     * Rounds a buffer size down to a whole number of records, never below one record.
+     */
+    private int roundToRecords(long size) {
+        return (int) Math.max(recordSize, size - size % recordSize);
+    }
+
+    private static void flush(@NotNull ByteBuffer buffer, @NotNull FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Sequential reader over one sorted run, exposing the key and offset of its current record.
+     */
+    private final class RunReader {
+        private final @NotNull FileChannel channel;
+        private final int index;
+        private final @NotNull ByteBuffer buffer;
+        private int recordStart;
+        private long key;
+
+        private RunReader(@NotNull FileChannel channel, int index, int bufferSize) {
+            this.channel = channel;
+            this.index = index;
+            this.buffer = ByteBuffer.allocate(bufferSize);
+            this.buffer.flip();
+        }
+
+        /**
+         * Moves to the next record, refilling the buffer when needed.
+         *
+         * @return false when the run is exhausted
+         */
+        private boolean advance() throws IOException {
+            if (buffer.remaining() < recordSize) {
+                buffer.compact();
+                while (buffer.position() < recordSize && channel.read(buffer) >= 0) {
+                    // a record may arrive in pieces
+                }
+                while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                    // fill the rest of the buffer while data is immediately available
+                }
+                buffer.flip();
+                if (buffer.remaining() < recordSize) return false;
+            }
+            recordStart = buffer.position();
+            key = key(buffer.array(), recordStart);
+            buffer.position(recordStart + recordSize);
+            return true;
+        }
+    }
+
+    /**
+     * Source of the temporary files the sorted runs are written to. The sort deletes every file it gets,
+     * whether it succeeds or fails.
+     */
+    @FunctionalInterface
+    public interface RunFiles {
+        /**
+         * Creates a new, empty run file.
+         *
+         * @return the path of the file
+         * @throws IOException if the file cannot be created
+         */
+        @NotNull Path create() throws IOException;
+    }
+}
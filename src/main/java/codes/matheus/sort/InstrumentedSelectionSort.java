@@ -0,0 +1,68 @@
+package codes.matheus.sort;
+
+import codes.matheus.metrics.MetricsSink;
+import codes.matheus.metrics.OperationMetrics;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+
+/**
+ * A {@link SelectionSort} that counts its comparisons and swaps and reports them to a {@link MetricsSink}.
+ *
+ * <p>It performs exactly the same steps as {@link SelectionSort}; the counters live only in this class,
+ * so the regular sort keeps running without any instrumentation overhead.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class InstrumentedSelectionSort {
+    private static final @NotNull String OPERATION = "SelectionSort.sort";
+
+    private InstrumentedSelectionSort() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * Sorts a generic array and reports the metrics of the call.
+     *
+     * @param array Array that will be sorted
+     * @param sink receiver of the metrics
+     * @param <T> the type of elements in the array extends comparable
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull T[] array, @NotNull MetricsSink sink) {
+        sort(array, Comparator.naturalOrder(), sink);
+    }
+
+    /**
+     * Sorts a generic array in the order induced by a comparator and reports the metrics of the call.
+     *
+     * @param array Array that will be sorted
+     * @param comparator the comparator that defines the order
+     * @param sink receiver of the metrics
+     * @param <T> the type of elements in the array
+     */
+    public static <T> void sort(@NotNull T[] array, @NotNull Comparator<? super T> comparator, @NotNull MetricsSink sink) {
+        long start = System.nanoTime();
+        long comparisons = 0;
+        long swaps = 0;
+
+        if (array != null && array.length > 1) {
+            for (int i = 0; i < array.length - 1; i++) {
+                int minIndex = i;
+
+                for (int j = i + 1; j < array.length; j++) {
+                    comparisons++;
+                    if (comparator.compare(array[j], array[minIndex]) < 0) {
+                        minIndex = j;
+                    }
+                }
+
+                if (minIndex != i) {
+                    SortUtils.swap(array, i, minIndex);
+                    swaps++;
+                }
+            }
+        }
+
+        sink.record(new OperationMetrics(OPERATION, comparisons, swaps, 0, System.nanoTime() - start));
+    }
+}
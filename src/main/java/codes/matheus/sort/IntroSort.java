@@ -0,0 +1,528 @@
+package codes.matheus.sort;
+
+import org.jetbrains.annotations.Range;
+
+/**
+ * An introspective sort (introsort) for primitive arrays.
+ *
+ * <p>Quicksort with a median-of-three pivot does the bulk of the work, short ranges finish with
+ * insertion sort and ranges whose recursion gets too deep fall back to heap sort, which bounds the
+ * worst case. The primitive overloads sort in place without boxing or allocating.</p>
+ *
+ * <p>The {@code double} and {@code float} overloads order values like {@link Double#compare(double, double)}
+ * and {@link Float#compare(float, float)}: {@code -0.0} comes before {@code 0.0} and every {@code NaN} is
+ * placed at the end. That is the ordering {@link codes.matheus.search.BinarySearch} assumes, so the sorted
+ * output can be searched directly.</p>
+ *
+ * <p>Time Complexity:
+ * - Best case: O(n log n)
+ * - Average case: O(n log n)
+ * - Worst case: O(n log n)</p>
+ *
+ * <p>Space Complexity: O(log n) – recursion stack, the array is sorted in place.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class IntroSort {
+    /**
+     * Size under which a range is sorted with insertion sort.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    private IntroSort() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * Sorts a primitive int array in ascending order.
+     *
+     * @param array Array that will be sorted
+     */
+    public static void sort(int[] array) {
+        if (array == null) return;
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * Sorts the range [from, to) of a primitive int array in ascending order.
+     *
+     * @param array Array that will be sorted
+     * @param from index of the first element, inclusive
+     * @param to index of the last element, exclusive
+     */
+    public static void sort(int[] array, @Range(from = 0, to = Integer.MAX_VALUE) int from, @Range(from = 0, to = Integer.MAX_VALUE) int to) {
+        if (to - from < 2) return;
+        introSort(array, from, to, depthLimit(to - from));
+    }
+
+    /**
+     * Sorts a primitive long array in ascending order.
+     *
+     * @param array Array that will be sorted
+     */
+    public static void sort(long[] array) {
+        if (array == null) return;
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * Sorts the range [from, to) of a primitive long array in ascending order.
+     *
+     * @param array Array that will be sorted
+     * @param from index of the first element, inclusive
+     * @param to index of the last element, exclusive
+     */
+    public static void sort(long[] array, @Range(from = 0, to = Integer.MAX_VALUE) int from, @Range(from = 0, to = Integer.MAX_VALUE) int to) {
+        if (to - from < 2) return;
+        introSort(array, from, to, depthLimit(to - from));
+    }
+
+    /**
+     * Sorts a primitive double array in the order defined by {@link Double#compare(double, double)}.
+     *
+     * @param array Array that will be sorted
+     */
+    public static void sort(double[] array) {
+        if (array == null) return;
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * Sorts the range [from, to) of a primitive double array in the order defined by {@link Double#compare(double, double)}.
+     *
+     * @param array Array that will be sorted
+     * @param from index of the first element, inclusive
+     * @param to index of the last element, exclusive
+     */
+    public static void sort(double[] array, @Range(from = 0, to = Integer.MAX_VALUE) int from, @Range(from = 0, to = Integer.MAX_VALUE) int to) {
+        if (to - from < 2) return;
+
+        int end = to;
+        for (int i = end - 1; i >= from; i--) {
+            double value = array[i];
+            if (value != value) {
+                array[i] = array[--end];
+                array[end] = value;
+            }
+        }
+
+        introSort(array, from, end, depthLimit(end - from));
+
+        int zero = lowerBoundOfZero(array, from, end);
+        int negativeZeros = 0;
+        int i = zero;
+        for (; i < end && array[i] == 0.0d; i++) {
+            if (Double.doubleToRawLongBits(array[i]) < 0) {
+                negativeZeros++;
+            }
+        }
+        for (int k = zero; k < i; k++) {
+            array[k] = k < zero + negativeZeros ? -0.0d : 0.0d;
+        }
+    }
+
+    /**
+     * Sorts a primitive float array in the order defined by {@link Float#compare(float, float)}.
+     *
+     * @param array Array that will be sorted
+     */
+    public static void sort(float[] array) {
+        if (array == null) return;
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * Sorts the range [from, to) of a primitive float array in the order defined by {@link Float#compare(float, float)}.
+     *
+     * @param array Array that will be sorted
+     * @param from index of the first element, inclusive
+     * @param to index of the last element, exclusive
+     */
+    public static void sort(float[] array, @Range(from = 0, to = Integer.MAX_VALUE) int from, @Range(from = 0, to = Integer.MAX_VALUE) int to) {
+        if (to - from < 2) return;
+
+        int end = to;
+        for (int i = end - 1; i >= from; i--) {
+            float value = array[i];
+            if (value != value) {
+                array[i] = array[--end];
+                array[end] = value;
+            }
+        }
+
+        introSort(array, from, end, depthLimit(end - from));
+
+        int zero = lowerBoundOfZero(array, from, end);
+        int negativeZeros = 0;
+        int i = zero;
+        for (; i < end && array[i] == 0.0f; i++) {
+            if (Float.floatToRawIntBits(array[i]) < 0) {
+                negativeZeros++;
+            }
+        }
+        for (int k = zero; k < i; k++) {
+            array[k] = k < zero + negativeZeros ? -0.0f : 0.0f;
+        }
+    }
+
+    /**
+     * Computes the recursion depth after which quicksort gives up and switches to heap sort.
+     */
+    private static int depthLimit(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(length));
+    }
+
+    /**
+     * Finds the first index in [from, to) whose value is not below zero, the start of the zero block.
+     */
+    private static int lowerBoundOfZero(double[] array, int from, int to) {
+        int left = from;
+        int right = to;
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (array[median] < 0.0d) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Finds the first index in [from, to) whose value is not below zero, the start of the zero block.
+     */
+    private static int lowerBoundOfZero(float[] array, int from, int to) {
+        int left = from;
+        int right = to;
+        while (left < right) {
+            int median = (left + right) >>> 1;
+            if (array[median] < 0.0f) {
+                left = median + 1;
+            } else {
+                right = median;
+            }
+        }
+        return left;
+    }
+
+    private static void introSort(int[] array, int from, int to, int depth) {
+        while (to - from > INSERTION_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, from, to);
+                return;
+            }
+            depth--;
+
+            int mid = (from + to - 1) >>> 1;
+            if (array[mid] < array[from]) swap(array, mid, from);
+            if (array[to - 1] < array[mid]) {
+                swap(array, to - 1, mid);
+                if (array[mid] < array[from]) swap(array, mid, from);
+            }
+            int pivot = array[mid];
+
+            int i = from - 1;
+            int j = to;
+            while (true) {
+                do i++; while (array[i] < pivot);
+                do j--; while (array[j] > pivot);
+                if (i >= j) break;
+                swap(array, i, j);
+            }
+
+            if (j + 1 - from < to - j - 1) {
+                introSort(array, from, j + 1, depth);
+                from = j + 1;
+            } else {
+                introSort(array, j + 1, to, depth);
+                to = j + 1;
+            }
+        }
+        insertionSort(array, from, to);
+    }
+
+    private static void insertionSort(int[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int current = array[i];
+            int j = i - 1;
+
+            while (j >= from && array[j] > current) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void heapSort(int[] array, int from, int to) {
+        int length = to - from;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, from, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, from, from + end);
+            siftDown(array, from, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] array, int offset, int node, int length) {
+        int value = array[offset + node];
+        int child;
+        while ((child = 2 * node + 1) < length) {
+            if (child + 1 < length && array[offset + child] < array[offset + child + 1]) {
+                child++;
+            }
+            if (value >= array[offset + child]) break;
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static void introSort(long[] array, int from, int to, int depth) {
+        while (to - from > INSERTION_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, from, to);
+                return;
+            }
+            depth--;
+
+            int mid = (from + to - 1) >>> 1;
+            if (array[mid] < array[from]) swap(array, mid, from);
+            if (array[to - 1] < array[mid]) {
+                swap(array, to - 1, mid);
+                if (array[mid] < array[from]) swap(array, mid, from);
+            }
+            long pivot = array[mid];
+
+            int i = from - 1;
+            int j = to;
+            while (true) {
+                do i++; while (array[i] < pivot);
+                do j--; while (array[j] > pivot);
+                if (i >= j) break;
+                swap(array, i, j);
+            }
+
+            if (j + 1 - from < to - j - 1) {
+                introSort(array, from, j + 1, depth);
+                from = j + 1;
+            } else {
+                introSort(array, j + 1, to, depth);
+                to = j + 1;
+            }
+        }
+        insertionSort(array, from, to);
+    }
+
+    private static void insertionSort(long[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long current = array[i];
+            int j = i - 1;
+
+            while (j >= from && array[j] > current) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void heapSort(long[] array, int from, int to) {
+        int length = to - from;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, from, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, from, from + end);
+            siftDown(array, from, 0, end);
+        }
+    }
+
+    private static void siftDown(long[] array, int offset, int node, int length) {
+        long value = array[offset + node];
+        int child;
+        while ((child = 2 * node + 1) < length) {
+            if (child + 1 < length && array[offset + child] < array[offset + child + 1]) {
+                child++;
+            }
+            if (value >= array[offset + child]) break;
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    private static void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static void introSort(double[] array, int from, int to, int depth) {
+        while (to - from > INSERTION_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, from, to);
+                return;
+            }
+            depth--;
+
+            int mid = (from + to - 1) >>> 1;
+            if (array[mid] < array[from]) swap(array, mid, from);
+            if (array[to - 1] < array[mid]) {
+                swap(array, to - 1, mid);
+                if (array[mid] < array[from]) swap(array, mid, from);
+            }
+            double pivot = array[mid];
+
+            int i = from - 1;
+            int j = to;
+            while (true) {
+                do i++; while (array[i] < pivot);
+                do j--; while (array[j] > pivot);
+                if (i >= j) break;
+                swap(array, i, j);
+            }
+
+            if (j + 1 - from < to - j - 1) {
+                introSort(array, from, j + 1, depth);
+                from = j + 1;
+            } else {
+                introSort(array, j + 1, to, depth);
+                to = j + 1;
+            }
+        }
+        insertionSort(array, from, to);
+    }
+
+    private static void insertionSort(double[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            double current = array[i];
+            int j = i - 1;
+
+            while (j >= from && array[j] > current) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void heapSort(double[] array, int from, int to) {
+        int length = to - from;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, from, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, from, from + end);
+            siftDown(array, from, 0, end);
+        }
+    }
+
+    private static void siftDown(double[] array, int offset, int node, int length) {
+        double value = array[offset + node];
+        int child;
+        while ((child = 2 * node + 1) < length) {
+            if (child + 1 < length && array[offset + child] < array[offset + child + 1]) {
+                child++;
+            }
+            if (value >= array[offset + child]) break;
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    private static void swap(double[] array, int i, int j) {
+        double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static void introSort(float[] array, int from, int to, int depth) {
+        while (to - from > INSERTION_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, from, to);
+                return;
+            }
+            depth--;
+
+            int mid = (from + to - 1) >>> 1;
+            if (array[mid] < array[from]) swap(array, mid, from);
+            if (array[to - 1] < array[mid]) {
+                swap(array, to - 1, mid);
+                if (array[mid] < array[from]) swap(array, mid, from);
+            }
+            float pivot = array[mid];
+
+            int i = from - 1;
+            int j = to;
+            while (true) {
+                do i++; while (array[i] < pivot);
+                do j--; while (array[j] > pivot);
+                if (i >= j) break;
+                swap(array, i, j);
+            }
+
+            if (j + 1 - from < to - j - 1) {
+                introSort(array, from, j + 1, depth);
+                from = j + 1;
+            } else {
+                introSort(array, j + 1, to, depth);
+                to = j + 1;
+            }
+        }
+        insertionSort(array, from, to);
+    }
+
+    private static void insertionSort(float[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            float current = array[i];
+            int j = i - 1;
+
+            while (j >= from && array[j] > current) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void heapSort(float[] array, int from, int to) {
+        int length = to - from;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, from, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, from, from + end);
+            siftDown(array, from, 0, end);
+        }
+    }
+
+    private static void siftDown(float[] array, int offset, int node, int length) {
+        float value = array[offset + node];
+        int child;
+        while ((child = 2 * node + 1) < length) {
+            if (child + 1 < length && array[offset + child] < array[offset + child + 1]) {
+                child++;
+            }
+            if (value >= array[offset + child]) break;
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    private static void swap(float[] array, int i, int j) {
+        float temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
@@ -0,0 +1,216 @@
+package codes.matheus.sort;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A stable sort by extracted key that computes every key exactly once (decorate-sort-undecorate).
+ *
+ * <p>The keys are extracted into a side array together with the original position of each element.
+ * The (key, position) pairs are merge sorted, comparing only the side array, and the elements are then
+ * moved once into their final positions. Expensive keys are derived n times instead of O(n log n)
+ * times, and {@code long} keys are compared as primitives without boxing. The two entry points have
+ * distinct names, like {@link java.util.Comparator#comparing} and {@link java.util.Comparator#comparingLong},
+ * so lambdas never make a call ambiguous.</p>
+ *
+ * <p>Time Complexity:
+ * - Best case: O(n) – already sorted keys skip the merge step
+ * - Average case: O(n log n)
+ * - Worst case: O(n log n)</p>
+ *
+ * <p>Space Complexity: O(n) – the key and position arrays and their merge buffers.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class KeySort {
+    /**
+     * Size under which a range is sorted with insertion sort instead of being merged.
+     */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private KeySort() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * Sorts a generic array by a primitive long key, extracting each key once.
+     *
+     * @param array Array that will be sorted
+     * @param key function that extracts the sort key of an element
+     * @param <T> the type of elements in the array
+     */
+    public static <T> void sortByLongKey(@NotNull T[] array, @NotNull ToLongFunction<? super T> key) {
+        if (array == null || array.length < 2) return;
+
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = key.applyAsLong(array[i]);
+        }
+
+        int[] positions = identity(array.length);
+        sortPairs(keys, positions);
+        reorder(array, positions);
+    }
+
+    /**
+     * Sorts a generic array by a comparable key, extracting each key once.
+     *
+     * @param array Array that will be sorted
+     * @param key function that extracts the sort key of an element
+     * @param <T> the type of elements in the array
+     * @param <K> the type of the key extends comparable
+     */
+    public static <T, K extends Comparable<? super K>> void sortByKey(@NotNull T[] array, @NotNull Function<? super T, ? extends K> key) {
+        if (array == null || array.length < 2) return;
+
+        @SuppressWarnings("unchecked")
+        K[] keys = (K[]) new Comparable<?>[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = key.apply(array[i]);
+        }
+
+        int[] positions = identity(array.length);
+        sortPairs(keys, positions);
+        reorder(array, positions);
+    }
+
+    static int @NotNull [] identity(int length) {
+        int[] positions = new int[length];
+        for (int i = 0; i < length; i++) {
+            positions[i] = i;
+        }
+        return positions;
+    }
+
+    /**
+     * Moves every element to the slot whose position entry refers to it: array[i] = old array[positions[i]].
+     */
+    private static <T> void reorder(@NotNull T[] array, int @NotNull [] positions) {
+        @NotNull T[] original = array.clone();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = original[positions[i]];
+        }
+    }
+
+    /**
+     * Stable sort of the keys, applying every move to the positions array as well.
+     *
+     * @param keys the keys to sort
+     * @param positions values that travel with their key, typically original indices
+     */
+    static void sortPairs(long @NotNull [] keys, int @NotNull [] positions) {
+        if (keys.length < 2) return;
+        mergeSort(keys, positions, keys.clone(), positions.clone(), 0, keys.length);
+    }
+
+    /**
+     * Stable sort of the keys, applying every move to the positions array as well.
+     *
+     * @param keys the keys to sort
+     * @param positions values that travel with their key, typically original indices
+     * @param <K> the type of the key extends comparable
+     */
+    static <K extends Comparable<? super K>> void sortPairs(@NotNull K[] keys, int @NotNull [] positions) {
+        sortPairs(keys, positions, Comparator.naturalOrder());
+    }
+
+    /**
+     * Stable sort of the keys in the order induced by a comparator, applying every move to the positions array as well.
+     *
+     * @param keys the keys to sort
+     * @param positions values that travel with their key, typically original indices
+     * @param comparator the comparator that defines the order
+     * @param <K> the type of the key
+     */
+    static <K> void sortPairs(@NotNull K[] keys, int @NotNull [] positions, @NotNull Comparator<? super K> comparator) {
+        if (keys.length < 2) return;
+        mergeSort(keys, positions, keys.clone(), positions.clone(), comparator, 0, keys.length);
+    }
+
+    private static void mergeSort(long[] keys, int[] positions, long[] keyBuffer, int[] positionBuffer, int from, int to) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                long key = keys[i];
+                int position = positions[i];
+                int j = i - 1;
+
+                while (j >= from && keys[j] > key) {
+                    keys[j + 1] = keys[j];
+                    positions[j + 1] = positions[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+                positions[j + 1] = position;
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(keys, positions, keyBuffer, positionBuffer, from, mid);
+        mergeSort(keys, positions, keyBuffer, positionBuffer, mid, to);
+        if (keys[mid - 1] <= keys[mid]) return;
+
+        System.arraycopy(keys, from, keyBuffer, from, mid - from);
+        System.arraycopy(positions, from, positionBuffer, from, mid - from);
+        int i = from;
+        int j = mid;
+        int k = from;
+
+        while (i < mid && j < to) {
+            if (keys[j] < keyBuffer[i]) {
+                positions[k] = positions[j];
+                keys[k++] = keys[j++];
+            } else {
+                positions[k] = positionBuffer[i];
+                keys[k++] = keyBuffer[i++];
+            }
+        }
+        System.arraycopy(keyBuffer, i, keys, k, mid - i);
+        System.arraycopy(positionBuffer, i, positions, k, mid - i);
+    }
+
+    private static <K> void mergeSort(K[] keys, int[] positions, K[] keyBuffer, int[] positionBuffer, Comparator<? super K> comparator, int from, int to) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                K key = keys[i];
+                int position = positions[i];
+                int j = i - 1;
+
+                while (j >= from && comparator.compare(keys[j], key) > 0) {
+                    keys[j + 1] = keys[j];
+                    positions[j + 1] = positions[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+                positions[j + 1] = position;
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(keys, positions, keyBuffer, positionBuffer, comparator, from, mid);
+        mergeSort(keys, positions, keyBuffer, positionBuffer, comparator, mid, to);
+        if (comparator.compare(keys[mid - 1], keys[mid]) <= 0) return;
+
+        System.arraycopy(keys, from, keyBuffer, from, mid - from);
+        System.arraycopy(positions, from, positionBuffer, from, mid - from);
+        int i = from;
+        int j = mid;
+        int k = from;
+
+        while (i < mid && j < to) {
+            if (comparator.compare(keys[j], keyBuffer[i]) < 0) {
+                positions[k] = positions[j];
+                keys[k++] = keys[j++];
+            } else {
+                positions[k] = positionBuffer[i];
+                keys[k++] = keyBuffer[i++];
+            }
+        }
+        System.arraycopy(keyBuffer, i, keys, k, mid - i);
+        System.arraycopy(positionBuffer, i, positions, k, mid - i);
+    }
+}
@@ -0,0 +1,169 @@
+package codes.matheus.sort;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A stable merge sort that splits the work across a {@link ForkJoinPool}.
+ *
+ * <p>Sub-ranges larger than the sequential cutoff are sorted as forked tasks, smaller ones are sorted
+ * in the calling thread. All tasks share a single scratch buffer, each one only touching its own range,
+ * so a whole sort allocates at most one extra array, and none when the caller supplies the buffer.</p>
+ *
+ * <p>Time Complexity:
+ * - Best case: O(n) – already sorted runs skip the merge step
+ * - Average case: O(n log n)
+ * - Worst case: O(n log n)</p>
+ *
+ * <p>Space Complexity: O(n) – the scratch buffer.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class ParallelMergeSort {
+    /**
+     * Default size under which a range is no longer split into parallel tasks.
+     */
+    public static final int DEFAULT_CUTOFF = 1 << 13;
+
+    /**
+     * Size under which a range is sorted with insertion sort instead of being merged.
+     */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private ParallelMergeSort() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * Sorts a generic array using the common pool and the default cutoff.
+     *
+     * @param array Array that will be sorted
+     * @param <T> the type of elements in the array extends comparable
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull T[] array) {
+        sort(array, DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Sorts a generic array using the common pool.
+     *
+     * @param array Array that will be sorted
+     * @param cutoff size under which a range is sorted sequentially
+     * @param <T> the type of elements in the array extends comparable
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull T[] array, @Range(from = 1, to = Integer.MAX_VALUE) int cutoff) {
+        if (array == null || array.length < 2) return;
+        sort(array, array.clone(), cutoff, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts a generic array reusing a caller-owned scratch buffer, so repeated sorts do not allocate.
+     *
+     * @param array Array that will be sorted
+     * @param buffer scratch buffer, at least as long as the array; its contents are overwritten
+     * @param cutoff size under which a range is sorted sequentially
+     * @param pool the pool that runs the forked tasks
+     * @param <T> the type of elements in the array extends comparable
+     * @throws IllegalArgumentException if the buffer is shorter than the array or the cutoff is not positive
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull T[] array, @NotNull T[] buffer, @Range(from = 1, to = Integer.MAX_VALUE) int cutoff, @NotNull ForkJoinPool pool) {
+        if (array == null || array.length < 2) return;
+        if (buffer.length < array.length) {
+            throw new IllegalArgumentException("buffer length " + buffer.length + " is smaller than array length " + array.length);
+        }
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("cutoff must be positive: " + cutoff);
+        }
+
+        if (array.length <= cutoff) {
+            sequentialSort(array, buffer, 0, array.length);
+        } else {
+            pool.invoke(new SortTask<>(array, buffer, 0, array.length, cutoff));
+        }
+    }
+
+    /**
+     * Sorts the range [from, to) in the calling thread.
+     */
+    private static <T extends Comparable<T>> void sequentialSort(@NotNull T[] array, @NotNull T[] buffer, int from, int to) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            insertionSort(array, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sequentialSort(array, buffer, from, mid);
+        sequentialSort(array, buffer, mid, to);
+        merge(array, buffer, from, mid, to);
+    }
+
+    /**
+     * Merges the sorted ranges [from, mid) and [mid, to), copying only the left half into the buffer.
+     */
+    private static <T extends Comparable<T>> void merge(@NotNull T[] array, @NotNull T[] buffer, int from, int mid, int to) {
+        if (array[mid - 1].compareTo(array[mid]) <= 0) return;
+
+        System.arraycopy(array, from, buffer, from, mid - from);
+        int i = from;
+        int j = mid;
+        int k = from;
+
+        while (i < mid && j < to) {
+            if (array[j].compareTo(buffer[i]) < 0) {
+                array[k++] = array[j++];
+            } else {
+                array[k++] = buffer[i++];
+            }
+        }
+        if (i < mid) {
+            System.arraycopy(buffer, i, array, k, mid - i);
+        }
+    }
+
+    private static <T extends Comparable<T>> void insertionSort(@NotNull T[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            T current = array[i];
+            int j = i - 1;
+
+            while (j >= from && array[j].compareTo(current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    /**
+     * Forked task that sorts the range [from, to), splitting it while it is larger than the cutoff.
+     */
+    private static final class SortTask<T extends Comparable<T>> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final @NotNull T[] array;
+        private final @NotNull T[] buffer;
+        private final int from;
+        private final int to;
+        private final int cutoff;
+
+        private SortTask(@NotNull T[] array, @NotNull T[] buffer, int from, int to, int cutoff) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= cutoff) {
+                sequentialSort(array, buffer, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask<>(array, buffer, from, mid, cutoff), new SortTask<>(array, buffer, mid, to, cutoff));
+            merge(array, buffer, from, mid, to);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package codes.matheus.sort;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A least significant digit (LSD) radix sort for primitive int and long arrays.
+ *
+ * <p>Keys are distributed one byte at a time, starting from the lowest byte. The histograms of every
+ * digit are built in a single read of the array, and a digit whose histogram puts all keys in one
+ * bucket is skipped, so narrow keys (small ids, timestamps close to each other) need fewer passes.
+ * The sign bit is flipped on the most significant digit so negative values come first.</p>
+ *
+ * <p>Time Complexity:
+ * - Best case: O(n)
+ * - Average case: O(w * n), where w is the number of bytes in the key
+ * - Worst case: O(w * n)</p>
+ *
+ * <p>Space Complexity: O(n) – one buffer of the same length, which can be supplied by the caller.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class RadixSort {
+    private static final int RADIX = 256;
+    private static final int MASK = RADIX - 1;
+
+    /**
+     * Size under which counting is not worth it and the array is sorted with {@link IntroSort}.
+     */
+    private static final int INTRO_SORT_THRESHOLD = 64;
+
+    private RadixSort() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * Sorts a primitive int array in ascending order.
+     *
+     * @param array Array that will be sorted
+     */
+    public static void sort(int[] array) {
+        if (array == null || array.length < 2) return;
+        if (array.length < INTRO_SORT_THRESHOLD) {
+            IntroSort.sort(array);
+            return;
+        }
+        sort(array, new int[array.length]);
+    }
+
+    /**
+     * Sorts a primitive int array in ascending order reusing a caller-owned buffer.
+     *
+     * @param array Array that will be sorted
+     * @param buffer scratch buffer, at least as long as the array; its contents are overwritten
+     * @throws IllegalArgumentException if the buffer is shorter than the array
+     */
+    public static void sort(int[] array, int @NotNull [] buffer) {
+        if (array == null || array.length < 2) return;
+        if (buffer.length < array.length) {
+            throw new IllegalArgumentException("buffer length " + buffer.length + " is smaller than array length " + array.length);
+        }
+
+        int length = array.length;
+        int[][] counts = new int[Integer.BYTES][RADIX];
+        for (int value : array) {
+            for (int digit = 0; digit < Integer.BYTES; digit++) {
+                counts[digit][digit(value, digit)]++;
+            }
+        }
+
+        int[] source = array;
+        int[] target = buffer;
+        for (int digit = 0; digit < Integer.BYTES; digit++) {
+            int[] count = counts[digit];
+            if (count[digit(source[0], digit)] == length) continue;
+
+            int offset = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int current = count[bucket];
+                count[bucket] = offset;
+                offset += current;
+            }
+            for (int i = 0; i < length; i++) {
+                int value = source[i];
+                target[count[digit(value, digit)]++] = value;
+            }
+
+            int[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, length);
+        }
+    }
+
+    /**
+     * Sorts a primitive long array in ascending order.
+     *
+     * @param array Array that will be sorted
+     */
+    public static void sort(long[] array) {
+        if (array == null || array.length < 2) return;
+        if (array.length < INTRO_SORT_THRESHOLD) {
+            IntroSort.sort(array);
+            return;
+        }
+        sort(array, new long[array.length]);
+    }
+
+    /**
+     * Sorts a primitive long array in ascending order reusing a caller-owned buffer.
+     *
+     * @param array Array that will be sorted
+     * @param buffer scratch buffer, at least as long as the array; its contents are overwritten
+     * @throws IllegalArgumentException if the buffer is shorter than the array
+     */
+    public static void sort(long[] array, long @NotNull [] buffer) {
+        if (array == null || array.length < 2) return;
+        if (buffer.length < array.length) {
+            throw new IllegalArgumentException("buffer length " + buffer.length + " is smaller than array length " + array.length);
+        }
+
+        int length = array.length;
+        int[][] counts = new int[Long.BYTES][RADIX];
+        for (long value : array) {
+            for (int digit = 0; digit < Long.BYTES; digit++) {
+                counts[digit][digit(value, digit)]++;
+            }
+        }
+
+        long[] source = array;
+        long[] target = buffer;
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            int[] count = counts[digit];
+            if (count[digit(source[0], digit)] == length) continue;
+
+            int offset = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int current = count[bucket];
+                count[bucket] = offset;
+                offset += current;
+            }
+            for (int i = 0; i < length; i++) {
+                long value = source[i];
+                target[count[digit(value, digit)]++] = value;
+            }
+
+            long[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, length);
+        }
+    }
+
+    /**
+     * Extracts a byte of the key, flipping the sign bit on the most significant one.
+     */
+    private static int digit(int value, int digit) {
+        int bits = (value >>> (digit << 3)) & MASK;
+        return digit == Integer.BYTES - 1 ? bits ^ 0x80 : bits;
+    }
+
+    /**
+     * Extracts a byte of the key, flipping the sign bit on the most significant one.
+     */
+    private static int digit(long value, int digit) {
+        int bits = (int) (value >>> (digit << 3)) & MASK;
+        return digit == Long.BYTES - 1 ? bits ^ 0x80 : bits;
+    }
+}
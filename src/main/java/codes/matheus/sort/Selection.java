@@ -0,0 +1,509 @@
+package codes.matheus.sort;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.Comparator;
+
+/**
+ * Selection of the k-th smallest element (introselect) and partial sorting of the k smallest elements.
+ *
+ * <p>Quickselect partitions around a median-of-three pivot and only descends into the side that contains
+ * rank k. If the partitions keep coming out unbalanced, the remaining range is sorted instead, which
+ * bounds the worst case. Top-k selects rank k - 1 first and then sorts only the k-element prefix, so it
+ * never pays for sorting the whole array.</p>
+ *
+ * <p>Time Complexity:
+ * - select: O(n) average, O(n log n) worst case
+ * - topK: O(n + k log k) average, O(n log n) worst case</p>
+ *
+ * <p>Space Complexity: O(1) – the array is rearranged in place.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class Selection {
+    /**
+     * Size under which a range is finished with insertion sort.
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    private Selection() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * Finds the k-th smallest element of a generic array.
+     * The array is reordered so that array[k] holds that element, no element before it is greater
+     * and no element after it is smaller.
+     *
+     * @param array the array to select from
+     * @param k zero-based rank of the element to select
+     * @param <T> the type of elements in the array extends comparable
+     * @return the k-th smallest element
+     * @throws IllegalArgumentException if k is not a valid index of the array
+     */
+    public static <T extends Comparable<T>> @NotNull T select(@NotNull T[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k) {
+        return select(array, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Finds the k-th smallest element of a generic array in the order induced by a comparator.
+     *
+     * @param array the array to select from
+     * @param k zero-based rank of the element to select
+     * @param comparator the comparator that defines the order
+     * @param <T> the type of elements in the array
+     * @return the k-th smallest element
+     * @throws IllegalArgumentException if k is not a valid index of the array
+     */
+    public static <T> @NotNull T select(@NotNull T[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k, @NotNull Comparator<? super T> comparator) {
+        checkRank(k, array.length);
+        introSelect(array, comparator, 0, array.length, k);
+        return array[k];
+    }
+
+    /**
+     * Moves the k smallest elements of a generic array to its front, sorted.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param array the array to partially sort
+     * @param k number of smallest elements to place at the front
+     * @param <T> the type of elements in the array extends comparable
+     * @throws IllegalArgumentException if k is negative or greater than the array length
+     */
+    public static <T extends Comparable<T>> void topK(@NotNull T[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k) {
+        topK(array, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Moves the k smallest elements of a generic array to its front, sorted by a comparator.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param array the array to partially sort
+     * @param k number of smallest elements to place at the front
+     * @param comparator the comparator that defines the order
+     * @param <T> the type of elements in the array
+     * @throws IllegalArgumentException if k is negative or greater than the array length
+     */
+    public static <T> void topK(@NotNull T[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k, @NotNull Comparator<? super T> comparator) {
+        checkCount(k, array.length);
+        if (k == 0) return;
+        introSelect(array, comparator, 0, array.length, k - 1);
+        heapSort(array, comparator, 0, k - 1);
+    }
+
+    /**
+     * Finds the k-th smallest value of a primitive int array.
+     * The array is reordered so that array[k] holds that value, no element before it is greater
+     * and no element after it is smaller.
+     *
+     * @param array the array to select from
+     * @param k zero-based rank of the value to select
+     * @return the k-th smallest value
+     * @throws IllegalArgumentException if k is not a valid index of the array
+     */
+    public static int select(int[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k) {
+        checkRank(k, array.length);
+        introSelect(array, 0, array.length, k);
+        return array[k];
+    }
+
+    /**
+     * Moves the k smallest values of a primitive int array to its front, sorted.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param array the array to partially sort
+     * @param k number of smallest values to place at the front
+     * @throws IllegalArgumentException if k is negative or greater than the array length
+     */
+    public static void topK(int[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k) {
+        checkCount(k, array.length);
+        if (k == 0) return;
+        introSelect(array, 0, array.length, k - 1);
+        IntroSort.sort(array, 0, k - 1);
+    }
+
+    /**
+     * Finds the k-th smallest value of a primitive long array.
+     * The array is reordered so that array[k] holds that value, no element before it is greater
+     * and no element after it is smaller.
+     *
+     * @param array the array to select from
+     * @param k zero-based rank of the value to select
+     * @return the k-th smallest value
+     * @throws IllegalArgumentException if k is not a valid index of the array
+     */
+    public static long select(long[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k) {
+        checkRank(k, array.length);
+        introSelect(array, 0, array.length, k);
+        return array[k];
+    }
+
+    /**
+     * Moves the k smallest values of a primitive long array to its front, sorted.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param array the array to partially sort
+     * @param k number of smallest values to place at the front
+     * @throws IllegalArgumentException if k is negative or greater than the array length
+     */
+    public static void topK(long[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k) {
+        checkCount(k, array.length);
+        if (k == 0) return;
+        introSelect(array, 0, array.length, k - 1);
+        IntroSort.sort(array, 0, k - 1);
+    }
+
+    /**
+     * Finds the k-th smallest value of a primitive double array in the order defined by {@link Double#compare(double, double)}.
+     * The array is reordered so that array[k] holds that value, no element before it is greater
+     * and no element after it is smaller.
+     *
+     * @param array the array to select from
+     * @param k zero-based rank of the value to select
+     * @return the k-th smallest value
+     * @throws IllegalArgumentException if k is not a valid index of the array
+     */
+    public static double select(double[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k) {
+        checkRank(k, array.length);
+        introSelect(array, 0, array.length, k);
+        return array[k];
+    }
+
+    /**
+     * Moves the k smallest values of a primitive double array to its front, sorted in the order defined by {@link Double#compare(double, double)}.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param array the array to partially sort
+     * @param k number of smallest values to place at the front
+     * @throws IllegalArgumentException if k is negative or greater than the array length
+     */
+    public static void topK(double[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k) {
+        checkCount(k, array.length);
+        if (k == 0) return;
+        introSelect(array, 0, array.length, k - 1);
+        IntroSort.sort(array, 0, k - 1);
+    }
+
+    /**
+     * Finds the k-th smallest value of a primitive float array in the order defined by {@link Float#compare(float, float)}.
+     * The array is reordered so that array[k] holds that value, no element before it is greater
+     * and no element after it is smaller.
+     *
+     * @param array the array to select from
+     * @param k zero-based rank of the value to select
+     * @return the k-th smallest value
+     * @throws IllegalArgumentException if k is not a valid index of the array
+     */
+    public static float select(float[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k) {
+        checkRank(k, array.length);
+        introSelect(array, 0, array.length, k);
+        return array[k];
+    }
+
+    /**
+     * Moves the k smallest values of a primitive float array to its front, sorted in the order defined by {@link Float#compare(float, float)}.
+     * The order of the remaining elements is unspecified.
+     *
+     * @param array the array to partially sort
+     * @param k number of smallest values to place at the front
+     * @throws IllegalArgumentException if k is negative or greater than the array length
+     */
+    public static void topK(float[] array, @Range(from = 0, to = Integer.MAX_VALUE) int k) {
+        checkCount(k, array.length);
+        if (k == 0) return;
+        introSelect(array, 0, array.length, k - 1);
+        IntroSort.sort(array, 0, k - 1);
+    }
+
+    private static void checkRank(int k, int length) {
+        if (k < 0 || k >= length) {
+            throw new IllegalArgumentException("rank " + k + " is out of bounds for length " + length);
+        }
+    }
+
+    private static void checkCount(int k, int length) {
+        if (k < 0 || k > length) {
+            throw new IllegalArgumentException("count " + k + " is out of bounds for length " + length);
+        }
+    }
+
+    /**
+     * Computes how many partition rounds are allowed before falling back to sorting the range.
+     */
+    private static int depthLimit(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(length));
+    }
+
+    private static <T> void introSelect(@NotNull T[] array, @NotNull Comparator<? super T> comparator, int from, int to, int k) {
+        int depth = depthLimit(to - from);
+        while (to - from > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(array, comparator, from, to);
+                return;
+            }
+
+            int mid = (from + to - 1) >>> 1;
+            if (comparator.compare(array[mid], array[from]) < 0) SortUtils.swap(array, mid, from);
+            if (comparator.compare(array[to - 1], array[mid]) < 0) {
+                SortUtils.swap(array, to - 1, mid);
+                if (comparator.compare(array[mid], array[from]) < 0) SortUtils.swap(array, mid, from);
+            }
+            T pivot = array[mid];
+
+            int i = from - 1;
+            int j = to;
+            while (true) {
+                do i++; while (comparator.compare(array[i], pivot) < 0);
+                do j--; while (comparator.compare(pivot, array[j]) < 0);
+                if (i >= j) break;
+                SortUtils.swap(array, i, j);
+            }
+
+            if (k <= j) {
+                to = j + 1;
+            } else {
+                from = j + 1;
+            }
+        }
+
+        for (int i = from + 1; i < to; i++) {
+            T current = array[i];
+            int j = i - 1;
+
+            while (j >= from && comparator.compare(current, array[j]) < 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    /**
+     * Sorts the range [from, to) with heap sort, the O(n log n) fallback when partitioning degrades.
+     */
+    private static <T> void heapSort(@NotNull T[] array, @NotNull Comparator<? super T> comparator, int from, int to) {
+        int length = to - from;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, comparator, from, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            SortUtils.swap(array, from, from + end);
+            siftDown(array, comparator, from, 0, end);
+        }
+    }
+
+    private static <T> void siftDown(@NotNull T[] array, @NotNull Comparator<? super T> comparator, int offset, int node, int length) {
+        T value = array[offset + node];
+        int child;
+        while ((child = 2 * node + 1) < length) {
+            if (child + 1 < length && comparator.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (comparator.compare(value, array[offset + child]) >= 0) break;
+            array[offset + node] = array[offset + child];
+            node = child;
+        }
+        array[offset + node] = value;
+    }
+
+    private static void introSelect(int[] array, int from, int to, int k) {
+        int depth = depthLimit(to - from);
+        while (to - from > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                IntroSort.sort(array, from, to);
+                return;
+            }
+
+            int mid = (from + to - 1) >>> 1;
+            if (array[mid] < array[from]) swap(array, mid, from);
+            if (array[to - 1] < array[mid]) {
+                swap(array, to - 1, mid);
+                if (array[mid] < array[from]) swap(array, mid, from);
+            }
+            int pivot = array[mid];
+
+            int i = from - 1;
+            int j = to;
+            while (true) {
+                do i++; while (array[i] < pivot);
+                do j--; while (pivot < array[j]);
+                if (i >= j) break;
+                swap(array, i, j);
+            }
+
+            if (k <= j) {
+                to = j + 1;
+            } else {
+                from = j + 1;
+            }
+        }
+
+        for (int i = from + 1; i < to; i++) {
+            int current = array[i];
+            int j = i - 1;
+
+            while (j >= from && current < array[j]) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static void introSelect(long[] array, int from, int to, int k) {
+        int depth = depthLimit(to - from);
+        while (to - from > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                IntroSort.sort(array, from, to);
+                return;
+            }
+
+            int mid = (from + to - 1) >>> 1;
+            if (array[mid] < array[from]) swap(array, mid, from);
+            if (array[to - 1] < array[mid]) {
+                swap(array, to - 1, mid);
+                if (array[mid] < array[from]) swap(array, mid, from);
+            }
+            long pivot = array[mid];
+
+            int i = from - 1;
+            int j = to;
+            while (true) {
+                do i++; while (array[i] < pivot);
+                do j--; while (pivot < array[j]);
+                if (i >= j) break;
+                swap(array, i, j);
+            }
+
+            if (k <= j) {
+                to = j + 1;
+            } else {
+                from = j + 1;
+            }
+        }
+
+        for (int i = from + 1; i < to; i++) {
+            long current = array[i];
+            int j = i - 1;
+
+            while (j >= from && current < array[j]) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static void introSelect(double[] array, int from, int to, int k) {
+        int depth = depthLimit(to - from);
+        while (to - from > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                IntroSort.sort(array, from, to);
+                return;
+            }
+
+            int mid = (from + to - 1) >>> 1;
+            if (Double.compare(array[mid], array[from]) < 0) swap(array, mid, from);
+            if (Double.compare(array[to - 1], array[mid]) < 0) {
+                swap(array, to - 1, mid);
+                if (Double.compare(array[mid], array[from]) < 0) swap(array, mid, from);
+            }
+            double pivot = array[mid];
+
+            int i = from - 1;
+            int j = to;
+            while (true) {
+                do i++; while (Double.compare(array[i], pivot) < 0);
+                do j--; while (Double.compare(pivot, array[j]) < 0);
+                if (i >= j) break;
+                swap(array, i, j);
+            }
+
+            if (k <= j) {
+                to = j + 1;
+            } else {
+                from = j + 1;
+            }
+        }
+
+        for (int i = from + 1; i < to; i++) {
+            double current = array[i];
+            int j = i - 1;
+
+            while (j >= from && Double.compare(current, array[j]) < 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void swap(double[] array, int i, int j) {
+        double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    private static void introSelect(float[] array, int from, int to, int k) {
+        int depth = depthLimit(to - from);
+        while (to - from > INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                IntroSort.sort(array, from, to);
+                return;
+            }
+
+            int mid = (from + to - 1) >>> 1;
+            if (Float.compare(array[mid], array[from]) < 0) swap(array, mid, from);
+            if (Float.compare(array[to - 1], array[mid]) < 0) {
+                swap(array, to - 1, mid);
+                if (Float.compare(array[mid], array[from]) < 0) swap(array, mid, from);
+            }
+            float pivot = array[mid];
+
+            int i = from - 1;
+            int j = to;
+            while (true) {
+                do i++; while (Float.compare(array[i], pivot) < 0);
+                do j--; while (Float.compare(pivot, array[j]) < 0);
+                if (i >= j) break;
+                swap(array, i, j);
+            }
+
+            if (k <= j) {
+                to = j + 1;
+            } else {
+                from = j + 1;
+            }
+        }
+
+        for (int i = from + 1; i < to; i++) {
+            float current = array[i];
+            int j = i - 1;
+
+            while (j >= from && Float.compare(current, array[j]) < 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void swap(float[] array, int i, int j) {
+        float temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
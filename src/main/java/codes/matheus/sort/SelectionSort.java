@@ -2,6 +2,8 @@ package codes.matheus.sort;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Comparator;
+
 /**
  * A simple Selection Sort algorithm
  *
@@ -22,13 +24,24 @@ public final class SelectionSort {
      * @param <T> the type of elements in the array extends comparable
      */
     public static <T extends Comparable<T>> void sort(@NotNull T[] array) {
+        sort(array, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a generic array in the order induced by a comparator.
+     *
+     * @param array Array that will be sorted
+     * @param comparator the comparator that defines the order
+     * @param <T> the type of elements in the array
+     */
+    public static <T> void sort(@NotNull T[] array, @NotNull Comparator<? super T> comparator) {
         if (array == null || array.length < 2) return;
 
         for (int i = 0; i < array.length - 1; i++) {
             int minIndex = i;
 
             for (int j = i + 1; j < array.length; j++) {
-                if (array[j].compareTo(array[minIndex]) < 0) {
+                if (comparator.compare(array[j], array[minIndex]) < 0) {
                     minIndex = j;
                 }
             }
@@ -0,0 +1,366 @@
+package codes.matheus.sort;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+
+/**
+ * An adaptive, stable merge sort that takes advantage of order already present in the input (TimSort-style).
+ *
+ * <p>The array is scanned for natural runs: non-descending runs are kept, strictly descending runs are
+ * reversed in place, and runs shorter than a minimum length are extended with binary insertion sort.
+ * Adjacent runs are merged following the powersort policy (Munro and Wild, 2018): the boundary between two
+ * runs gets a power, the depth of the node that separates their midpoints in a perfect binary tree over the
+ * array, and a run is merged with its left neighbour as soon as the boundary on its left is deeper than the
+ * one on its right. The merge tree is then nearly optimal for the run lengths at hand.</p>
+ *
+ * <p>Each merge first skips, with galloping (exponential) searches, the prefix of the left run and the suffix
+ * of the right run that are already in place, and buffers only the smaller of what is left. While merging,
+ * once one side has won several comparisons in a row, the merge gallops to find how many more elements
+ * that side wins and copies them as one block.</p>
+ *
+ * <p>Time Complexity:
+ * - Best case: O(n) – input that is already sorted, or sorted in reverse
+ * - Average case: O(n log n)
+ * - Worst case: O(n log n)</p>
+ *
+ * <p>Space Complexity: O(n) – the merge buffer, sized to the smaller of the two runs being merged.</p>
+ *
+ * @author Matheus Sousa (https://github.com/omatheus-edev)
+ */
+public final class TimSort {
+    /**
+     * Runs shorter than this are extended with binary insertion sort before being merged.
+     */
+    private static final int MIN_RUN = 32;
+
+    /**
+     * Number of comparisons in a row one side of a merge must win before the merge gallops.
+     */
+    private static final int GALLOP_THRESHOLD = 8;
+
+    /**
+     * Powers on the run stack are strictly increasing and at most 33 for an int-indexed array.
+     */
+    private static final int MAX_PENDING_RUNS = Integer.SIZE + 2;
+
+    private TimSort() {
+        throw new UnsupportedOperationException("this class cannot be instantiated");
+    }
+
+    /**
+     * Sorts a generic array, keeping equal elements in their original order.
+     *
+     * @param array Array that will be sorted
+     * @param <T> the type of elements in the array extends comparable
+     */
+    public static <T extends Comparable<T>> void sort(@NotNull T[] array) {
+        sort(array, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a generic array in the order induced by a comparator, keeping equal elements in their original order.
+     *
+     * @param array Array that will be sorted
+     * @param comparator the comparator that defines the order
+     * @param <T> the type of elements in the array
+     */
+    public static <T> void sort(@NotNull T[] array, @NotNull Comparator<? super T> comparator) {
+        if (array == null || array.length < 2) return;
+        new Sorter<>(array, comparator).sort();
+    }
+
+    /**
+     * The state of one sort: the array, its comparator and the merge buffer, reused across merges.
+     */
+    private static final class Sorter<T> {
+        private final @NotNull T[] array;
+        private final @NotNull Comparator<? super T> comparator;
+        private @NotNull T[] buffer;
+
+        @SuppressWarnings("unchecked")
+        private Sorter(@NotNull T[] array, @NotNull Comparator<? super T> comparator) {
+            this.array = array;
+            this.comparator = comparator;
+            this.buffer = (T[]) new Object[Math.min(array.length / 2, 256)];
+        }
+
+        private void sort() {
+            int length = array.length;
+            int[] pendingStart = new int[MAX_PENDING_RUNS];
+            int[] pendingPower = new int[MAX_PENDING_RUNS];
+            int pending = 0;
+
+            int start = 0;
+            int end = nextRun(0);
+            while (end < length) {
+                int nextEnd = nextRun(end);
+                int power = power(start, end, nextEnd, length);
+                // merge the runs whose boundary lies deeper in the tree than the one after the current run
+                while (pending > 0 && pendingPower[pending - 1] > power) {
+                    int left = pendingStart[--pending];
+                    merge(left, start, end);
+                    start = left;
+                }
+                pendingStart[pending] = start;
+                pendingPower[pending++] = power;
+                start = end;
+                end = nextEnd;
+            }
+            while (pending > 0) {
+                int left = pendingStart[--pending];
+                merge(left, start, length);
+                start = left;
+            }
+        }
+
+        /**
+         * Finds the natural run starting at from, makes it ascending and extends it to {@link #MIN_RUN} elements.
+         *
+         * @return the end (exclusive) of the run
+         */
+        private int nextRun(int from) {
+            int length = array.length;
+            int end = from + 1;
+            if (end < length) {
+                if (comparator.compare(array[end], array[from]) < 0) {
+                    // strictly descending, so reversing it keeps the sort stable
+                    do {
+                        end++;
+                    } while (end < length && comparator.compare(array[end], array[end - 1]) < 0);
+                    reverse(from, end);
+                } else {
+                    do {
+                        end++;
+                    } while (end < length && comparator.compare(array[end], array[end - 1]) >= 0);
+                }
+            }
+
+            int minimum = Math.min(length, from + MIN_RUN);
+            if (end < minimum) {
+                insertionSort(from, end, minimum);
+                end = minimum;
+            }
+            return end;
+        }
+
+        private void reverse(int from, int to) {
+            for (int i = from, j = to - 1; i < j; i++, j--) {
+                @NotNull T temp = array[i];
+                array[i] = array[j];
+                array[j] = temp;
+            }
+        }
+
+        /**
+         * Inserts the elements of [sorted, to) one by one into the sorted range [from, sorted),
+         * after any equal element, finding each position with a binary search.
+         */
+        private void insertionSort(int from, int sorted, int to) {
+            for (int i = sorted; i < to; i++) {
+                @NotNull T pivot = array[i];
+                int left = from;
+                int right = i;
+                while (left < right) {
+                    int median = (left + right) >>> 1;
+                    if (comparator.compare(pivot, array[median]) < 0) {
+                        right = median;
+                    } else {
+                        left = median + 1;
+                    }
+                }
+                System.arraycopy(array, left, array, left + 1, i - left);
+                array[left] = pivot;
+            }
+        }
+
+        /**
+         * Merges the adjacent sorted runs [from, middle) and [middle, to).
+         */
+        private void merge(int from, int middle, int to) {
+            // left elements not greater than the first right element, and right elements not less
+            // than the last left element, are already where a stable merge would put them
+            from += countFromLow(array[middle], array, from, middle, true);
+            if (from == middle) return;
+            to -= countFromHigh(array[middle - 1], array, middle, to, true);
+            if (to == middle) return;
+
+            if (middle - from <= to - middle) {
+                mergeForward(from, middle, to);
+            } else {
+                mergeBackward(from, middle, to);
+            }
+        }
+
+        /**
+         * Merges from the front, buffering the left run, which is the shorter one.
+         */
+        private void mergeForward(int from, int middle, int to) {
+            int leftLength = middle - from;
+            @NotNull T[] left = buffer(leftLength);
+            System.arraycopy(array, from, left, 0, leftLength);
+
+            int i = 0;
+            int j = middle;
+            int k = from;
+            int leftWins = 0;
+            int rightWins = 0;
+            while (i < leftLength && j < to) {
+                if (comparator.compare(array[j], left[i]) < 0) {
+                    array[k++] = array[j++];
+                    leftWins = 0;
+                    if (++rightWins >= GALLOP_THRESHOLD) {
+                        int count = countFromLow(left[i], array, j, to, false);
+                        System.arraycopy(array, j, array, k, count);
+                        j += count;
+                        k += count;
+                        rightWins = 0;
+                    }
+                } else {
+                    array[k++] = left[i++];
+                    rightWins = 0;
+                    if (++leftWins >= GALLOP_THRESHOLD && j < to) {
+                        int count = countFromLow(array[j], left, i, leftLength, true);
+                        System.arraycopy(left, i, array, k, count);
+                        i += count;
+                        k += count;
+                        leftWins = 0;
+                    }
+                }
+            }
+            // whatever is left of the right run is already in place
+            System.arraycopy(left, i, array, k, leftLength - i);
+        }
+
+        /**
+         * Merges from the back, buffering the right run, which is the shorter one.
+         */
+        private void mergeBackward(int from, int middle, int to) {
+            int rightLength = to - middle;
+            @NotNull T[] right = buffer(rightLength);
+            System.arraycopy(array, middle, right, 0, rightLength);
+
+            int i = rightLength - 1;
+            int j = middle - 1;
+            int k = to - 1;
+            int leftWins = 0;
+            int rightWins = 0;
+            while (i >= 0 && j >= from) {
+                if (comparator.compare(right[i], array[j]) < 0) {
+                    array[k--] = array[j--];
+                    rightWins = 0;
+                    if (++leftWins >= GALLOP_THRESHOLD) {
+                        int count = countFromHigh(right[i], array, from, j + 1, false);
+                        System.arraycopy(array, j + 1 - count, array, k + 1 - count, count);
+                        j -= count;
+                        k -= count;
+                        leftWins = 0;
+                    }
+                } else {
+                    array[k--] = right[i--];
+                    leftWins = 0;
+                    if (++rightWins >= GALLOP_THRESHOLD && j >= from) {
+                        int count = countFromHigh(array[j], right, 0, i + 1, true);
+                        System.arraycopy(right, i + 1 - count, array, k + 1 - count, count);
+                        i -= count;
+                        k -= count;
+                        rightWins = 0;
+                    }
+                }
+            }
+            // whatever is left of the left run is already in place
+            System.arraycopy(right, 0, array, from, i + 1);
+        }
+
+        /**
+         * Counts, with a galloping search from the low end of the sorted range [from, to), the elements that
+         * are less than key, or not greater than key if inclusive.
+         */
+        private int countFromLow(@NotNull T key, @NotNull T[] range, int from, int to, boolean inclusive) {
+            int limit = to - from;
+            int known = 0;
+            int step = 1;
+            while (known + step <= limit && precedes(range[from + known + step - 1], key, inclusive)) {
+                known += step;
+                step <<= 1;
+            }
+
+            int left = known;
+            int right = Math.min(limit, known + step - 1);
+            while (left < right) {
+                int median = (left + right) >>> 1;
+                if (precedes(range[from + median], key, inclusive)) {
+                    left = median + 1;
+                } else {
+                    right = median;
+                }
+            }
+            return left;
+        }
+
+        /**
+         * Counts, with a galloping search from the high end of the sorted range [from, to), the elements that
+         * are greater than key, or not less than key if inclusive.
+         */
+        private int countFromHigh(@NotNull T key, @NotNull T[] range, int from, int to, boolean inclusive) {
+            int limit = to - from;
+            int known = 0;
+            int step = 1;
+            while (known + step <= limit && precedes(key, range[to - known - step], inclusive)) {
+                known += step;
+                step <<= 1;
+            }
+
+            int left = known;
+            int right = Math.min(limit, known + step - 1);
+            while (left < right) {
+                int median = (left + right) >>> 1;
+                if (precedes(key, range[to - 1 - median], inclusive)) {
+                    left = median + 1;
+                } else {
+                    right = median;
+                }
+            }
+            return left;
+        }
+
+        private boolean precedes(@NotNull T first, @NotNull T second, boolean inclusive) {
+            int compute = comparator.compare(first, second);
+            return inclusive ? compute <= 0 : compute < 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private @NotNull T[] buffer(int capacity) {
+            if (buffer.length < capacity) {
+                buffer = (T[]) new Object[Math.max(capacity, Math.min(array.length / 2, buffer.length * 2))];
+            }
+            return buffer;
+        }
+
+        /**
+         * Power of the boundary between the runs [start, middle) and [middle, end) of an array of the given
+         * length: the first bit in which the relative positions of the midpoints of the two runs differ.
+         */
+        private static int power(int start, int middle, int end, int length) {
+            // twice the midpoints, compared as fractions of twice the length
+            long first = (long) start + middle;
+            long second = (long) middle + end;
+            long scale = 2L * length;
+            int power = 0;
+            while (true) {
+                power++;
+                first <<= 1;
+                second <<= 1;
+                boolean firstBit = first >= scale;
+                boolean secondBit = second >= scale;
+                if (firstBit != secondBit) {
+                    return power;
+                }
+                if (firstBit) {
+                    first -= scale;
+                    second -= scale;
+                }
+            }
+        }
+    }
+}
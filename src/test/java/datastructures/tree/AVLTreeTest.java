@@ -0,0 +1,79 @@
+package datastructures.tree;
+
+import codes.matheus.datastructures.tree.AVLTree;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class AVLTreeTest {
+    private final @NotNull AVLTree<Integer> avl = new AVLTree<>();
+
+    @Test
+    void testInsertAndRemove() {
+        avl.insert(50);
+        avl.insert(30);
+        avl.insert(70);
+        avl.insert(30);
+
+        assertEquals(3, avl.size());
+        assertTrue(avl.contains(30));
+
+        avl.remove(50);
+        avl.remove(99);
+
+        assertEquals(2, avl.size());
+        assertFalse(avl.contains(50));
+        assertNull(avl.search(50));
+        assertNotNull(avl.search(70));
+    }
+
+    @Test
+    void testHeightAfterMillionSortedInserts() {
+        int n = 1_000_000;
+        for (int i = 0; i < n; i++) {
+            avl.insert(i);
+        }
+
+        double bound = 1.45 * Math.log(n + 2) / Math.log(2);
+        assertEquals(n, avl.size());
+        assertTrue(avl.height() <= bound, "Height " + avl.height() + " exceeds " + bound);
+        assertTrue(avl.contains(0));
+        assertTrue(avl.contains(n - 1));
+    }
+
+    @Test
+    void testBalanceInvariantUnderRandomOperations() {
+        @NotNull Random random = new Random(83);
+        @NotNull TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                avl.remove(value);
+                expected.remove(value);
+            } else {
+                avl.insert(value);
+                expected.add(value);
+            }
+        }
+
+        assertEquals(expected.size(), avl.size());
+        for (int value = 0; value < 5_000; value++) {
+            assertEquals(expected.contains(value), avl.contains(value));
+        }
+        assertTrue(avl.height() <= 1.45 * Math.log(avl.size() + 2) / Math.log(2), "Height " + avl.height());
+    }
+
+    @Test
+    void testEmptyAndRootConstructor() {
+        assertEquals(0, avl.height());
+        @NotNull AVLTree<String> tree = new AVLTree<>("m");
+        assertEquals(1, tree.size());
+        assertEquals(1, tree.height());
+        tree.remove("m");
+        assertEquals(0, tree.size());
+    }
+}
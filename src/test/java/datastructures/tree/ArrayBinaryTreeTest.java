@@ -0,0 +1,88 @@
+package datastructures.tree;
+
+import codes.matheus.datastructures.tree.ArrayBinaryTree;
+import codes.matheus.datastructures.tree.BinaryTree;
+import codes.matheus.datastructures.tree.TraversalOrder;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ArrayBinaryTreeTest {
+    private final @NotNull ArrayBinaryTree<@NotNull Integer> tree = new ArrayBinaryTree<>();
+
+    @Test
+    void testInsertAndSize() {
+        assertEquals(0, tree.size());
+        assertEquals(0, tree.height());
+
+        for (int value = 1; value <= 100; value++) {
+            tree.insert(value);
+        }
+
+        assertEquals(100, tree.size());
+        assertEquals(7, tree.height());
+        assertEquals(1, tree.get(0));
+        assertEquals(4, tree.get(3));
+        assertEquals(1, new ArrayBinaryTree<>(10).size());
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(100));
+    }
+
+    @Test
+    void testRemoveMovesDeepestNode() {
+        for (int value = 1; value <= 6; value++) {
+            tree.insert(value);
+        }
+
+        tree.remove(2);
+        tree.remove(99);
+
+        assertEquals(5, tree.size());
+        assertFalse(tree.contains(2));
+        assertEquals(1, tree.indexOf(6));
+        assertEquals(-1, tree.indexOf(2));
+        assertEquals(List.of(1, 6, 3, 4, 5), tree.levelOrderStream().collect(Collectors.toList()));
+        assertEquals(List.of(4, 6, 5, 1, 3), tree.stream().collect(Collectors.toList()));
+
+        while (tree.size() > 0) {
+            tree.remove(tree.get(0));
+        }
+        assertFalse(tree.iterator(TraversalOrder.IN_ORDER).hasNext());
+    }
+
+    @Test
+    void testTraversalsMatchLinkedTree() {
+        for (int size = 0; size <= 64; size++) {
+            @NotNull ArrayBinaryTree<Integer> array = new ArrayBinaryTree<>();
+            @NotNull BinaryTree<Integer> linked = new BinaryTree<>();
+            for (int value = 0; value < size; value++) {
+                array.insert(value);
+                linked.insert(value);
+            }
+
+            for (@NotNull TraversalOrder order : TraversalOrder.values()) {
+                @NotNull List<Integer> expected = new ArrayList<>();
+                linked.iterator(order).forEachRemaining(expected::add);
+                assertEquals(expected, array.stream(order).collect(Collectors.toList()), order + " of " + size + " nodes");
+            }
+            @NotNull List<Integer> defaultOrder = new ArrayList<>();
+            array.forEach(defaultOrder::add);
+            assertEquals(linked.stream().collect(Collectors.toList()), defaultOrder, "default order of " + size + " nodes");
+        }
+    }
+
+    @Test
+    void testParallelLevelOrderStream() {
+        int n = 1_000_000;
+        for (int value = 0; value < n; value++) {
+            tree.insert(value);
+        }
+
+        assertEquals((long) n * (n - 1) / 2, tree.levelOrderStream().parallel().mapToLong(Integer::longValue).sum());
+        assertEquals(n, tree.stream(TraversalOrder.IN_ORDER).count());
+    }
+}
@@ -1,9 +1,15 @@
 package datastructures.tree;
 
 import codes.matheus.datastructures.tree.BinarySearchTree;
+import codes.matheus.datastructures.tree.TraversalOrder;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public final class BinarySearchTreeTest {
@@ -89,4 +95,49 @@ public final class BinarySearchTreeTest {
         bst.preOrder();
         bst.postOrder();
     }
+
+    @Test
+    void testRootConstructorCountsRoot() {
+        assertEquals(1, new BinarySearchTree<>(10).size());
+    }
+
+    @Test
+    void testFromSorted() {
+        @NotNull BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(new Integer[]{10, 20, 30, 40, 50, 60, 70});
+
+        assertEquals(7, tree.size());
+        assertEquals(List.of(40, 20, 10, 30, 60, 50, 70), tree.stream(TraversalOrder.PRE_ORDER).collect(Collectors.toList()));
+        assertEquals(0, BinarySearchTree.fromSorted(new Integer[0]).size());
+        assertThrows(IllegalArgumentException.class, () -> BinarySearchTree.fromSorted(new Integer[]{1, 3, 3}));
+        assertThrows(IllegalArgumentException.class, () -> BinarySearchTree.fromSorted(List.of(2, 1)));
+    }
+
+    @Test
+    void testFromSortedLargeInputIsBalanced() {
+        int n = 1_000_000;
+        @NotNull List<Integer> values = IntStream.range(0, n).boxed().collect(Collectors.toList());
+        @NotNull BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(values.iterator());
+
+        assertEquals(n, tree.size());
+        assertEquals(n / 2, tree.iterator(TraversalOrder.PRE_ORDER).next());
+        assertTrue(tree.contains(0));
+        assertTrue(tree.contains(n - 1));
+        assertEquals(values, tree.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testInsertAll() {
+        bst.insert(50);
+        bst.insert(10);
+        bst.insertAll(List.of(40, 10, 60, 20, 40));
+
+        assertEquals(5, bst.size());
+        assertEquals(List.of(10, 20, 40, 50, 60), bst.stream().collect(Collectors.toList()));
+        assertEquals(40, bst.iterator(TraversalOrder.PRE_ORDER).next());
+
+        bst.insertAll(new ArrayList<>());
+        bst.remove(40);
+        bst.insert(30);
+        assertEquals(List.of(10, 20, 30, 50, 60), bst.stream().collect(Collectors.toList()));
+    }
 }
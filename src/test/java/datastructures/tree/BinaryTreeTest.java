@@ -22,6 +22,17 @@ public final class BinaryTreeTest {
         assertTrue(tree.contains(10));
     }
 
+    @Test
+    void testRootConstructorCountsRoot() {
+        @NotNull BinaryTree<@NotNull Integer> rooted = new BinaryTree<>(10);
+        assertEquals(1, rooted.size());
+
+        rooted.insert(20);
+        assertEquals(2, rooted.size());
+        rooted.remove(10);
+        assertEquals(1, rooted.size());
+    }
+
     @Test
     void testSearch() {
         tree.insert(10);
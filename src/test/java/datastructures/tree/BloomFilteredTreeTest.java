@@ -0,0 +1,65 @@
+package datastructures.tree;
+
+import codes.matheus.datastructures.tree.BinarySearchTree;
+import codes.matheus.datastructures.tree.BloomFilteredTree;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class BloomFilteredTreeTest {
+    @Test
+    void testWrapsExistingValuesAndInserts() {
+        @NotNull BinarySearchTree<String> tree = new BinarySearchTree<>();
+        tree.insert("m");
+        tree.insert("c");
+        tree.insert("x");
+        @NotNull BloomFilteredTree<String> filtered = new BloomFilteredTree<>(tree, 100, 0.01);
+
+        filtered.insert("a");
+
+        assertTrue(filtered.contains("m"));
+        assertTrue(filtered.contains("c"));
+        assertTrue(filtered.contains("x"));
+        assertTrue(filtered.contains("a"));
+        assertTrue(tree.contains("a"));
+        assertEquals(4, filtered.getHits());
+    }
+
+    @Test
+    void testMissesAndRemovedValues() {
+        @NotNull BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        @NotNull BloomFilteredTree<Integer> filtered = new BloomFilteredTree<>(tree, 1_000, 10);
+        for (int i = 0; i < 1_000; i++) {
+            filtered.insert((i * 7919) % 1_000);
+        }
+
+        for (int i = 1_000; i < 2_000; i++) {
+            assertFalse(filtered.contains(i));
+        }
+        assertEquals(1_000, filtered.getMisses() + filtered.getFalsePositives());
+        assertTrue(filtered.getFalsePositives() < 50, "False positives: " + filtered.getFalsePositives());
+
+        filtered.resetCounters();
+        filtered.remove(5);
+        assertFalse(filtered.contains(5));
+        assertEquals(1, filtered.getFalsePositives());
+    }
+
+    @Test
+    void testKeyHashConsistentWithOrdering() {
+        @NotNull BinarySearchTree<BigDecimal> tree = new BinarySearchTree<>();
+        tree.insert(new BigDecimal("1.0"));
+        @NotNull BloomFilteredTree<BigDecimal> filtered =
+                new BloomFilteredTree<>(tree, 100, 10, value -> value.stripTrailingZeros().hashCode());
+
+        filtered.insert(new BigDecimal("2.50"));
+
+        // compare as equal to the stored values, but hash differently under BigDecimal.hashCode
+        assertTrue(filtered.contains(new BigDecimal("1.00")));
+        assertTrue(filtered.contains(new BigDecimal("2.5")));
+        assertEquals(2, filtered.getHits());
+    }
+}
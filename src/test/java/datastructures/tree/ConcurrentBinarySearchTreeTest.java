@@ -0,0 +1,208 @@
+package datastructures.tree;
+
+import codes.matheus.datastructures.tree.ConcurrentBinarySearchTree;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ConcurrentBinarySearchTreeTest {
+    private static final int THREADS = 4;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private final @NotNull ConcurrentBinarySearchTree<Integer> tree = new ConcurrentBinarySearchTree<>();
+
+    @Test
+    void testInsertAndRemove() {
+        assertTrue(tree.insert(50));
+        assertTrue(tree.insert(30));
+        assertTrue(tree.insert(70));
+        assertFalse(tree.insert(30));
+
+        assertEquals(3, tree.size());
+        assertTrue(tree.contains(30));
+
+        assertTrue(tree.remove(50));
+        assertFalse(tree.remove(99));
+
+        assertEquals(2, tree.size());
+        assertFalse(tree.contains(50));
+        assertNull(tree.search(50));
+        assertEquals(List.of(30, 70), tree.stream().collect(Collectors.toList()));
+        assertEquals(1, new ConcurrentBinarySearchTree<>(10).size());
+    }
+
+    @Test
+    void testSortedInsertsStayBalanced() {
+        int n = 100_000;
+        @NotNull Random random = new Random(3);
+        @NotNull TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < n; i++) {
+            tree.insert(i);
+            expected.add(i);
+        }
+        for (int i = 0; i < n; i++) {
+            int value = random.nextInt(n);
+            assertEquals(expected.remove(value), tree.remove(value));
+        }
+
+        assertEquals(expected.size(), tree.size());
+        assertTrue(tree.height() <= 1.45 * Math.log(n + 2) / Math.log(2));
+        assertEquals(new ArrayList<>(expected), tree.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSnapshotIgnoresLaterUpdates() {
+        for (int i = 0; i < 10; i++) {
+            tree.insert(i);
+        }
+        @NotNull List<Integer> values = new ArrayList<>();
+        for (int value : tree) {
+            tree.remove(value);
+            tree.insert(value + 100);
+            values.add(value);
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), values);
+        assertEquals(10, tree.size());
+    }
+
+    @Test
+    void testContendedKeysAreInsertedAndRemovedOnce() throws Exception {
+        int keys = 20_000;
+        @NotNull List<Callable<Integer>> inserts = new ArrayList<>();
+        @NotNull List<Callable<Integer>> removes = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            @NotNull List<Integer> order = shuffled(keys, t);
+            inserts.add(() -> count(order, tree::insert));
+            removes.add(() -> count(order, tree::remove));
+        }
+
+        assertEquals(keys, runAll(inserts).stream().mapToInt(Integer::intValue).sum());
+        assertEquals(keys, tree.size());
+        assertEquals(keys, runAll(removes).stream().mapToInt(Integer::intValue).sum());
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    void testReadersNeverMissStableKeys() throws Exception {
+        int keys = 4_096;
+        for (int key = 0; key < keys; key += 2) {
+            tree.insert(key);
+        }
+
+        @NotNull AtomicBoolean running = new AtomicBoolean(true);
+        @NotNull List<Callable<Integer>> tasks = new ArrayList<>();
+        @NotNull List<TreeSet<Integer>> models = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            // each writer owns the odd keys congruent to its index, so its own results are deterministic
+            int owner = t;
+            @NotNull TreeSet<Integer> model = new TreeSet<>();
+            models.add(model);
+            tasks.add(() -> {
+                @NotNull Random random = new Random(owner);
+                for (int i = 0; i < 50_000; i++) {
+                    int key = 2 * (random.nextInt(keys / 2 / THREADS) * THREADS + owner) + 1;
+                    if (random.nextBoolean()) {
+                        assertEquals(model.add(key), tree.insert(key));
+                    } else {
+                        assertEquals(model.remove(key), tree.remove(key));
+                    }
+                }
+                return 0;
+            });
+            tasks.add(() -> {
+                int reads = 0;
+                @NotNull Random random = new Random(-owner);
+                while (running.get()) {
+                    int key = 2 * random.nextInt(keys / 2);
+                    assertTrue(tree.contains(key), "stable key " + key + " was missed");
+                    assertFalse(tree.contains(keys + key), "key " + (keys + key) + " was never inserted");
+                    reads++;
+                }
+                return reads;
+            });
+        }
+
+        @NotNull ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            @NotNull List<Future<Integer>> futures = new ArrayList<>();
+            for (@NotNull Callable<Integer> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (int i = 0; i < futures.size(); i += 2) {
+                futures.get(i).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            for (@NotNull Future<Integer> future : futures) {
+                future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } finally {
+            // the readers ignore interrupts, so a failed writer must stop them before the pool is shut down
+            running.set(false);
+            executor.shutdownNow();
+        }
+
+        @NotNull TreeSet<Integer> expected = new TreeSet<>();
+        for (int key = 0; key < keys; key += 2) {
+            expected.add(key);
+        }
+        models.forEach(expected::addAll);
+        assertEquals(expected.size(), tree.size());
+        assertEquals(new ArrayList<>(expected), tree.stream().parallel().collect(Collectors.toList()));
+    }
+
+    private static @NotNull List<Integer> shuffled(int keys, long seed) {
+        @NotNull List<Integer> order = new ArrayList<>();
+        for (int key = 0; key < keys; key++) {
+            order.add(key);
+        }
+        Collections.shuffle(order, new Random(seed));
+        return order;
+    }
+
+    private static int count(@NotNull List<Integer> keys, @NotNull Predicate<Integer> operation) {
+        int changed = 0;
+        for (int key : keys) {
+            if (operation.test(key)) changed++;
+        }
+        return changed;
+    }
+
+    private static @NotNull List<Integer> runAll(@NotNull List<Callable<Integer>> tasks) throws Exception {
+        @NotNull ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        @NotNull CountDownLatch start = new CountDownLatch(1);
+        try {
+            @NotNull List<Future<Integer>> futures = new ArrayList<>();
+            for (@NotNull Callable<Integer> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            @NotNull List<Integer> results = new ArrayList<>();
+            for (@NotNull Future<Integer> future : futures) {
+                results.add(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package datastructures.tree;
+
+import codes.matheus.datastructures.tree.AVLTree;
+import codes.matheus.datastructures.tree.BinarySearchTree;
+import codes.matheus.datastructures.tree.BinaryTree;
+import codes.matheus.datastructures.tree.TraversalOrder;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class TreeTraversalTest {
+
+    @Test
+    void testOrdersOfSearchTree() {
+        @NotNull BinarySearchTree<Integer> bst = new BinarySearchTree<>();
+        for (int value : new int[]{50, 30, 70, 20, 40, 60, 80}) {
+            bst.insert(value);
+        }
+
+        assertEquals(List.of(20, 30, 40, 50, 60, 70, 80), collect(bst.iterator()));
+        assertEquals(List.of(50, 30, 20, 40, 70, 60, 80), collect(bst.iterator(TraversalOrder.PRE_ORDER)));
+        assertEquals(List.of(20, 40, 30, 60, 80, 70, 50), collect(bst.iterator(TraversalOrder.POST_ORDER)));
+    }
+
+    @Test
+    void testOrdersOfBinaryTree() {
+        @NotNull BinaryTree<Integer> tree = new BinaryTree<>();
+        for (int value = 1; value <= 6; value++) {
+            tree.insert(value);
+        }
+
+        assertEquals(List.of(4, 2, 5, 1, 6, 3), collect(tree.iterator(TraversalOrder.IN_ORDER)));
+        assertEquals(List.of(1, 2, 4, 5, 3, 6), collect(tree.iterator(TraversalOrder.PRE_ORDER)));
+        assertEquals(List.of(4, 5, 2, 6, 3, 1), collect(tree.iterator(TraversalOrder.POST_ORDER)));
+    }
+
+    @Test
+    void testEmptyTree() {
+        @NotNull Iterator<Integer> iterator = new BinarySearchTree<Integer>().iterator();
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(0, new BinaryTree<Integer>().stream().count());
+    }
+
+    @Test
+    void testSkewedTreeDoesNotRecurse() {
+        // deep enough to overflow the stack of a recursive traversal, small enough for O(n^2) sorted inserts
+        int n = 20_000;
+        @NotNull BinarySearchTree<Integer> bst = new BinarySearchTree<>();
+        for (int i = 0; i < n; i++) {
+            bst.insert(i);
+        }
+
+        int expected = 0;
+        for (int value : bst) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(n, expected);
+        assertEquals(n - 1, bst.stream(TraversalOrder.POST_ORDER).findFirst().orElseThrow());
+        assertEquals(0, bst.stream(TraversalOrder.PRE_ORDER).findFirst().orElseThrow());
+    }
+
+    @Test
+    void testParallelStreamKeepsEncounterOrder() {
+        @NotNull Random random = new Random(7);
+        @NotNull BinarySearchTree<Integer> bst = new BinarySearchTree<>();
+        @NotNull AVLTree<Integer> avl = new AVLTree<>();
+        for (int i = 0; i < 50_000; i++) {
+            int value = random.nextInt(1_000_000);
+            bst.insert(value);
+            avl.insert(value);
+        }
+
+        for (@NotNull TraversalOrder order : TraversalOrder.values()) {
+            assertEquals(collect(bst.iterator(order)), bst.stream(order).parallel().collect(Collectors.toList()));
+            assertEquals(collect(avl.iterator(order)), avl.stream(order).parallel().collect(Collectors.toList()));
+        }
+        assertEquals(bst.stream().mapToLong(Integer::longValue).sum(), bst.stream().parallel().mapToLong(Integer::longValue).sum());
+        assertEquals(avl.stream().collect(Collectors.toList()), bst.stream().parallel().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSpliteratorSplitsBySubtrees() {
+        @NotNull AVLTree<Integer> avl = new AVLTree<>();
+        IntStream.range(0, 1_000).forEach(avl::insert);
+
+        @NotNull Spliterator<Integer> suffix = avl.spliterator();
+        @NotNull Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertNotNull(prefix);
+        assertTrue(suffix.hasCharacteristics(Spliterator.SORTED));
+        @NotNull List<Integer> values = new ArrayList<>();
+        prefix.forEachRemaining(values::add);
+        int split = values.size();
+        suffix.forEachRemaining(values::add);
+
+        assertTrue(split > 0 && split < 1_000);
+        assertEquals(IntStream.range(0, 1_000).boxed().collect(Collectors.toList()), values);
+    }
+
+    private static @NotNull List<Integer> collect(@NotNull Iterator<Integer> iterator) {
+        @NotNull List<Integer> values = new ArrayList<>();
+        iterator.forEachRemaining(values::add);
+        return values;
+    }
+}
@@ -0,0 +1,85 @@
+package search;
+
+import codes.matheus.search.BinarySearch;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the batched BinarySearch lookups.
+ */
+public final class BatchedBinarySearchTest {
+    private final @NotNull Random random = new Random(23);
+
+    @Test
+    void testSortedAndUnsortedKeys() {
+        int[] numbers = {10, 20, 20, 20, 30, 40, 50};
+        int[] ascending = {5, 10, 20, 20, 25, 50, 60};
+        int[] shuffled = {50, 5, 20, 60, 10, 25, 20};
+        int[] out = new int[7];
+
+        BinarySearch.findAll(numbers, ascending, out);
+        assertArrayEquals(new int[]{-1, 0, 1, 1, -1, 6, -1}, out);
+
+        BinarySearch.findAll(numbers, shuffled, out);
+        assertArrayEquals(new int[]{6, -1, 1, -1, 0, -1, 1}, out);
+    }
+
+    @Test
+    void testGenericAndEmpty() {
+        @NotNull String[] fruits = {"Apple", "Banana", "Cherry", "Date"};
+        @NotNull String[] keys = {"Date", "Fig", "Apple", "Cherry"};
+        int[] out = new int[4];
+
+        BinarySearch.findAll(fruits, keys, out);
+        assertArrayEquals(new int[]{3, -1, 0, 2}, out);
+
+        BinarySearch.findAll(new long[0], new long[]{1L, 2L}, out);
+        assertEquals(-1, out[0]);
+        assertEquals(-1, out[1]);
+    }
+
+    @Test
+    void testFloatingPointOrder() {
+        double[] doubles = {-1.0, -0.0, 0.0, 2.5, Double.NaN};
+        int[] out = new int[4];
+
+        BinarySearch.findAll(doubles, new double[]{Double.NaN, 0.0, -0.0, 3.0}, out);
+        assertArrayEquals(new int[]{4, 2, 1, -1}, out);
+
+        float[] floats = {-0.0f, 0.0f, 1.0f, Float.NaN};
+        BinarySearch.findAll(floats, new float[]{-0.0f, 0.0f, Float.NaN, 7.0f}, out);
+        assertArrayEquals(new int[]{0, 1, 3, -1}, out);
+    }
+
+    @Test
+    void testLargeBatchesMatchFind() {
+        long[] numbers = random.longs(100_000, 0, 400_000).sorted().toArray();
+        long[] shuffled = random.longs(50_000, -10, 400_010).toArray();
+        long[] ascending = shuffled.clone();
+        Arrays.sort(ascending);
+        int[] out = new int[shuffled.length];
+
+        for (long[] keys : new long[][]{shuffled, ascending}) {
+            BinarySearch.findAll(numbers, keys, out);
+            for (int i = 0; i < keys.length; i++) {
+                int expected = BinarySearch.find(numbers, keys[i]);
+                if (expected < 0) {
+                    assertEquals(-1, out[i], "Key " + keys[i] + " should be missing");
+                } else {
+                    assertEquals(keys[i], numbers[out[i]]);
+                    assertTrue(out[i] == 0 || numbers[out[i] - 1] < keys[i], "Should be the first occurrence");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testOutputTooShort() {
+        assertThrows(IllegalArgumentException.class, () -> BinarySearch.findAll(new int[]{1, 2}, new int[]{1, 2}, new int[1]));
+    }
+}
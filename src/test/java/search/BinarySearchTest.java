@@ -94,4 +94,70 @@ public final class BinarySearchTest {
         double[] numbers = {0.1, 0.2, 0.5, 0.9};
         assertEquals(2, BinarySearch.find(numbers, 0.5));
     }
+
+    @Test
+    void testLowerAndUpperBound() {
+        int[] numbers = {1, 3, 3, 3, 5, 8};
+        assertEquals(1, BinarySearch.lowerBound(numbers, 3));
+        assertEquals(4, BinarySearch.upperBound(numbers, 3));
+        assertEquals(4, BinarySearch.lowerBound(numbers, 4));
+        assertEquals(4, BinarySearch.upperBound(numbers, 4));
+        assertEquals(0, BinarySearch.lowerBound(numbers, -10));
+        assertEquals(6, BinarySearch.upperBound(numbers, 8));
+        assertEquals(0, BinarySearch.lowerBound(new long[0], 1L));
+    }
+
+    @Test
+    void testEqualRange() {
+        @NotNull String[] words = {"a", "b", "b", "c"};
+        double[] doubles = {-1.0, -0.0, 0.0, 0.0, Double.NaN, Double.NaN};
+
+        assertArrayEquals(new int[]{1, 3}, BinarySearch.equalRange(words, "b"));
+        assertArrayEquals(new int[]{4, 4}, BinarySearch.equalRange(words, "d"));
+        assertArrayEquals(new int[]{2, 4}, BinarySearch.equalRange(doubles, 0.0));
+        assertArrayEquals(new int[]{1, 2}, BinarySearch.equalRange(doubles, -0.0));
+        assertArrayEquals(new int[]{4, 6}, BinarySearch.equalRange(doubles, Double.NaN));
+    }
+
+    @Test
+    void testCountInRange() {
+        long[] numbers = {2, 4, 4, 6, 8, 10, 10, 12};
+        float[] floats = {0.5f, 1.5f, 2.5f};
+
+        assertEquals(4, BinarySearch.countInRange(numbers, 4L, 8L));
+        assertEquals(3, BinarySearch.countInRange(numbers, 9L, 100L));
+        assertEquals(0, BinarySearch.countInRange(numbers, 5L, 5L));
+        assertEquals(0, BinarySearch.countInRange(numbers, 8L, 4L));
+        assertEquals(numbers.length, BinarySearch.countInRange(numbers, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(2, BinarySearch.countInRange(floats, 1.0f, 3.0f));
+    }
+
+    @Test
+    void testFindByPrimitiveKey() {
+        @NotNull Trade[] trades = new Trade[1_000];
+        for (int i = 0; i < trades.length; i++) {
+            trades[i] = new Trade(1_700_000_000_000L + i * 5L, i * 3);
+        }
+
+        assertEquals(600, BinarySearch.findByLongKey(trades, Trade::timestamp, 1_700_000_003_000L));
+        assertEquals(-1, BinarySearch.findByLongKey(trades, Trade::timestamp, 1_700_000_003_001L));
+        assertEquals(999, BinarySearch.findByIntKey(trades, Trade::quantity, 2_997));
+        assertEquals(-1, BinarySearch.findByIntKey(trades, Trade::quantity, -3));
+        assertEquals(-1, BinarySearch.findByLongKey(new Trade[0], Trade::timestamp, 0L));
+    }
+
+    @Test
+    void testKeyColumn() {
+        @NotNull Trade[] trades = {new Trade(10L, 1), new Trade(20L, 1), new Trade(20L, 4), new Trade(30L, 9)};
+        long[] timestamps = BinarySearch.longKeyColumn(trades, Trade::timestamp);
+        int[] quantities = BinarySearch.intKeyColumn(trades, Trade::quantity);
+
+        assertArrayEquals(new long[]{10L, 20L, 20L, 30L}, timestamps);
+        assertArrayEquals(new int[]{0, 2}, BinarySearch.equalRange(quantities, 1));
+        assertEquals(3, BinarySearch.find(timestamps, 30L));
+        assertArrayEquals(new int[]{1, 3}, BinarySearch.equalRange(timestamps, 20L));
+    }
+
+    private record Trade(long timestamp, int quantity) {
+    }
 }
@@ -0,0 +1,109 @@
+package search;
+
+import codes.matheus.search.BlockedBloomFilter;
+import codes.matheus.search.BloomFilteredArray;
+import codes.matheus.search.IntBloomFilteredArray;
+import codes.matheus.search.LongBloomFilteredArray;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the blocked Bloom filter and the filtered array search.
+ */
+public final class BlockedBloomFilterTest {
+    @Test
+    void testNoFalseNegativesAndRateNearTarget() {
+        @NotNull BlockedBloomFilter filter = BlockedBloomFilter.withFalsePositiveRate(100_000, 0.01);
+        for (long key = 0; key < 100_000; key++) {
+            filter.add(key * 7);
+        }
+
+        int falsePositives = 0;
+        for (long key = 0; key < 100_000; key++) {
+            assertTrue(filter.mightContain(key * 7));
+            if (filter.mightContain(key * 7 + 3)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "False-positive rate too high: " + falsePositives / 1e5);
+        assertEquals(7, filter.getHashes());
+    }
+
+    @Test
+    void testBitsPerKeyControlsSize() {
+        @NotNull BlockedBloomFilter small = BlockedBloomFilter.withBitsPerKey(10_000, 4);
+        @NotNull BlockedBloomFilter large = BlockedBloomFilter.withBitsPerKey(10_000, 16);
+
+        assertEquals(5_056, small.getSizeInBytes());
+        assertEquals(20_032, large.getSizeInBytes());
+        assertThrows(IllegalArgumentException.class, () -> BlockedBloomFilter.withFalsePositiveRate(10, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> BlockedBloomFilter.withBitsPerKey(10, 0));
+    }
+
+    @Test
+    void testFilteredArrayCounters() {
+        @NotNull Integer[] numbers = new Integer[10_000];
+        Arrays.setAll(numbers, i -> i * 2);
+        @NotNull BloomFilteredArray<Integer> search = new BloomFilteredArray<>(numbers, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, search.find(i * 2));
+            assertEquals(-1, search.find(i * 2 + 1));
+        }
+
+        assertEquals(10_000, search.getHits());
+        assertEquals(10_000, search.getMisses() + search.getFalsePositives());
+        assertTrue(search.getFalsePositives() < 300, "False positives: " + search.getFalsePositives());
+
+        search.resetCounters();
+        assertEquals(0, search.getHits());
+    }
+
+    @Test
+    void testPrimitiveArrays() {
+        int[] ints = new int[10_000];
+        long[] longs = new long[10_000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = i * 2;
+            longs[i] = i * 2L + Integer.MAX_VALUE;
+        }
+        @NotNull IntBloomFilteredArray intSearch = new IntBloomFilteredArray(ints, 0.01);
+        @NotNull LongBloomFilteredArray longSearch = new LongBloomFilteredArray(longs, 10);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, intSearch.find(i * 2));
+            assertEquals(-1, intSearch.find(i * 2 + 1));
+            assertEquals(i, longSearch.find(i * 2L + Integer.MAX_VALUE));
+            assertEquals(-1, longSearch.find(i * 2L + Integer.MAX_VALUE + 1));
+        }
+
+        assertEquals(10_000, intSearch.getHits());
+        assertEquals(10_000, intSearch.getMisses() + intSearch.getFalsePositives());
+        assertTrue(intSearch.getFalsePositives() < 300, "False positives: " + intSearch.getFalsePositives());
+        assertEquals(10_000, longSearch.getHits());
+        assertEquals(10_000, longSearch.getMisses() + longSearch.getFalsePositives());
+        assertTrue(longSearch.getFalsePositives() < 300, "False positives: " + longSearch.getFalsePositives());
+
+        intSearch.resetCounters();
+        assertEquals(0, intSearch.getHits());
+    }
+
+    @Test
+    void testKeyHashConsistentWithOrdering() {
+        @NotNull BigDecimal[] numbers = {new BigDecimal("0.5"), new BigDecimal("1.0"), new BigDecimal("2.50")};
+        @NotNull BloomFilteredArray<BigDecimal> search =
+                new BloomFilteredArray<>(numbers, 0.01, value -> value.stripTrailingZeros().hashCode());
+
+        // compare as equal to the stored keys, but hash differently under BigDecimal.hashCode
+        assertEquals(1, search.find(new BigDecimal("1.00")));
+        assertEquals(2, search.find(new BigDecimal("2.5")));
+        assertEquals(0, search.find(new BigDecimal("0.500")));
+        assertEquals(-1, search.find(new BigDecimal("3")));
+        assertEquals(3, search.getHits());
+    }
+}
@@ -0,0 +1,70 @@
+package search;
+
+import codes.matheus.search.BinarySearch;
+import codes.matheus.search.IntCascadingIndex;
+import codes.matheus.search.LongCascadingIndex;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the fractional cascading indexes.
+ */
+public final class CascadingIndexTest {
+    private final @NotNull Random random = new Random(71);
+
+    @Test
+    void testFindAcrossShards() {
+        @NotNull IntCascadingIndex index = new IntCascadingIndex(List.of(
+                new int[]{1, 3, 5, 7},
+                new int[]{2, 3, 3, 8},
+                new int[]{},
+                new int[]{3}));
+
+        assertEquals(4, index.size());
+        assertArrayEquals(new int[]{1, 1, -1, 0}, index.find(3));
+        assertArrayEquals(new int[]{-1, 3, -1, -1}, index.find(8));
+        assertArrayEquals(new int[]{4, 3, 0, 1}, index.lowerBounds(8));
+        assertArrayEquals(new int[]{0, 0, 0, 0}, index.lowerBounds(Integer.MIN_VALUE));
+    }
+
+    @Test
+    void testMatchesBinarySearchPerArray() {
+        @NotNull List<int[]> ints = new ArrayList<>();
+        @NotNull List<long[]> longs = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            int length = random.nextInt(2_000);
+            ints.add(random.ints(length, -10_000, 10_000).sorted().toArray());
+            longs.add(random.longs(length, -10_000, 10_000).sorted().toArray());
+        }
+        @NotNull IntCascadingIndex intIndex = new IntCascadingIndex(ints);
+        @NotNull LongCascadingIndex longIndex = new LongCascadingIndex(longs);
+        int[] out = new int[30];
+
+        for (int q = 0; q < 3_000; q++) {
+            int key = random.nextInt(20_200) - 10_100;
+            intIndex.lowerBounds(key, out);
+            for (int i = 0; i < ints.size(); i++) {
+                assertEquals(BinarySearch.lowerBound(ints.get(i), key), out[i], "Array " + i + ", key " + key);
+            }
+            longIndex.find(key, out);
+            for (int i = 0; i < longs.size(); i++) {
+                int bound = BinarySearch.lowerBound(longs.get(i), (long) key);
+                int expected = bound < longs.get(i).length && longs.get(i)[bound] == key ? bound : -1;
+                assertEquals(expected, out[i], "Array " + i + ", key " + key);
+            }
+        }
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new LongCascadingIndex(List.of(new long[]{1L}, new long[]{3L, 2L})));
+        assertThrows(IllegalArgumentException.class, () -> new IntCascadingIndex(List.of(new int[]{1}, new int[]{2})).find(1, new int[1]));
+        assertEquals(0, new IntCascadingIndex(List.of()).find(5).length);
+    }
+}
@@ -0,0 +1,46 @@
+package search;
+
+import codes.matheus.search.ExponentialSearch;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the exponential search.
+ */
+public final class ExponentialSearchTest {
+    @Test
+    void testFindEveryPosition() {
+        int[] numbers = new int[1_000];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = i * 3;
+        }
+
+        for (int i = 0; i < numbers.length; i++) {
+            assertEquals(i, ExponentialSearch.find(numbers, i * 3));
+            assertEquals(-1, ExponentialSearch.find(numbers, i * 3 + 1));
+        }
+        assertEquals(-1, ExponentialSearch.find(numbers, -1));
+    }
+
+    @Test
+    void testGenericAndFloatingPoint() {
+        @NotNull String[] fruits = {"Apple", "Banana", "Cherry", "Date", "Fig"};
+        double[] doubles = {-1.0, -0.0, 0.0, 2.5, Double.NaN};
+        float[] floats = {-0.0f, 0.0f, Float.NaN};
+
+        assertEquals(4, ExponentialSearch.find(fruits, "Fig"));
+        assertEquals(-1, ExponentialSearch.find(fruits, "Grape"));
+        assertEquals(1, ExponentialSearch.find(doubles, -0.0));
+        assertEquals(4, ExponentialSearch.find(doubles, Double.NaN));
+        assertEquals(1, ExponentialSearch.find(floats, 0.0f));
+    }
+
+    @Test
+    void testEmptyAndSingle() {
+        assertEquals(-1, ExponentialSearch.find(new long[0], 1L));
+        assertEquals(0, ExponentialSearch.find(new long[]{5L}, 5L));
+        assertEquals(-1, ExponentialSearch.find(new long[]{5L}, 6L));
+    }
+}
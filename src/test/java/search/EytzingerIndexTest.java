@@ -0,0 +1,136 @@
+package search;
+
+import codes.matheus.search.BinarySearch;
+import codes.matheus.search.IntEytzingerIndex;
+import codes.matheus.search.LongEytzingerIndex;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the Eytzinger layout search indexes.
+ */
+public final class EytzingerIndexTest {
+    @Test
+    void testFindInt() {
+        int[] numbers = {100, 200, 300, 400};
+        @NotNull IntEytzingerIndex index = new IntEytzingerIndex(numbers);
+
+        assertEquals(4, index.size());
+        assertEquals(0, index.find(100));
+        assertEquals(1, index.find(200));
+        assertEquals(3, index.find(400));
+        assertEquals(-1, index.find(999));
+        assertEquals(-1, index.find(50));
+        assertEquals(-1, index.find(250));
+    }
+
+    @Test
+    void testEmptyAndSingle() {
+        @NotNull IntEytzingerIndex empty = new IntEytzingerIndex(new int[0]);
+        @NotNull LongEytzingerIndex single = new LongEytzingerIndex(new long[]{42L});
+
+        assertEquals(-1, empty.find(1));
+        assertEquals(0, empty.lowerBound(1));
+        assertEquals(0, single.find(42L));
+        assertEquals(-1, single.find(7L));
+        assertEquals(1, single.lowerBound(43L));
+    }
+
+    @Test
+    void testMatchesBinarySearchForEverySize() {
+        @NotNull Random random = new Random(31);
+        for (int n = 0; n <= 130; n++) {
+            long[] sorted = new long[n];
+            for (int i = 0; i < n; i++) {
+                sorted[i] = 3L * i + 1;
+            }
+            @NotNull LongEytzingerIndex index = new LongEytzingerIndex(sorted);
+
+            for (long key = -1; key <= 3L * n + 2; key++) {
+                assertEquals(BinarySearch.find(sorted, key), index.find(key), "n=" + n + " key=" + key);
+                int expectedLowerBound = 0;
+                while (expectedLowerBound < n && sorted[expectedLowerBound] < key) {
+                    expectedLowerBound++;
+                }
+                assertEquals(expectedLowerBound, index.lowerBound(key), "n=" + n + " key=" + key);
+            }
+        }
+
+        int[] large = random.ints(100_000).toArray();
+        Arrays.sort(large);
+        @NotNull IntEytzingerIndex index = new IntEytzingerIndex(large);
+        for (int i = 0; i < 10_000; i++) {
+            int key = i % 2 == 0 ? large[random.nextInt(large.length)] : random.nextInt();
+            int expected = BinarySearch.find(large, key);
+            int actual = index.find(key);
+            if (expected < 0) {
+                assertEquals(-1, actual);
+            } else {
+                assertEquals(key, large[actual]);
+            }
+        }
+    }
+
+    @Test
+    void testDuplicatesReturnFirstOccurrence() {
+        @NotNull IntEytzingerIndex index = new IntEytzingerIndex(new int[]{1, 2, 2, 2, 3, 3, 9});
+
+        assertEquals(1, index.find(2));
+        assertEquals(4, index.find(3));
+        assertEquals(6, index.lowerBound(4));
+        assertEquals(7, index.lowerBound(10));
+    }
+
+    @Test
+    void testExtremeValues() {
+        @NotNull LongEytzingerIndex index = new LongEytzingerIndex(new long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE});
+
+        assertEquals(0, index.find(Long.MIN_VALUE));
+        assertEquals(2, index.find(Long.MAX_VALUE));
+        assertEquals(-1, index.find(1L));
+    }
+
+    @Test
+    void testIntIndexDeeperThanPrefetchShift() {
+        // the prefetch of node k << 4 overflows an int once k reaches 2^27; the sorted array and its copy take 1 GB
+        int n = 1 << 27;
+        assumeTrue(Runtime.getRuntime().maxMemory() >= 2L * n * Integer.BYTES + (512L << 20), "not enough heap for a 2^27 key index");
+        int[] numbers = new int[n];
+        for (int i = 0; i < n; i++) {
+            numbers[i] = 2 * i;
+        }
+        @NotNull IntEytzingerIndex index = new IntEytzingerIndex(numbers);
+        numbers = null;
+
+        assertEquals(0, index.find(0));
+        assertEquals(-1, index.find(-1));
+        assertEquals(0, index.lowerBound(Integer.MIN_VALUE));
+        assertEquals(n - 1, index.find(2 * (n - 1)));
+        assertEquals(n, index.lowerBound(Integer.MAX_VALUE));
+        assertEquals(12_345, index.lowerBound(2 * 12_345 - 1));
+    }
+
+    @Test
+    void testLongIndexDeeperThanPrefetchShift() {
+        // the prefetch of node k << 3 overflows an int once k reaches 2^28; the sorted array and its copy take 4 GB
+        int n = 1 << 28;
+        assumeTrue(Runtime.getRuntime().maxMemory() >= 2L * n * Long.BYTES + (512L << 20), "not enough heap for a 2^28 key index");
+        long[] numbers = new long[n];
+        for (int i = 0; i < n; i++) {
+            numbers[i] = 2L * i;
+        }
+        @NotNull LongEytzingerIndex index = new LongEytzingerIndex(numbers);
+        numbers = null;
+
+        assertEquals(0, index.find(0L));
+        assertEquals(-1, index.find(-1L));
+        assertEquals(n - 1, index.find(2L * (n - 1)));
+        assertEquals(n, index.lowerBound(Long.MAX_VALUE));
+    }
+}
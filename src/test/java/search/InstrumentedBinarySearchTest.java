@@ -0,0 +1,73 @@
+package search;
+
+import codes.matheus.metrics.MetricsAccumulator;
+import codes.matheus.search.InstrumentedBinarySearch;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class InstrumentedBinarySearchTest {
+    private final @NotNull MetricsAccumulator accumulator = new MetricsAccumulator();
+
+    @Test
+    void testGenericProbes() {
+        @NotNull Integer[] numbers = {10, 20, 30, 40, 50};
+
+        assertEquals(2, InstrumentedBinarySearch.find(numbers, 30, accumulator));
+        assertEquals(1, accumulator.getProbes());
+        assertEquals(1, accumulator.getComparisons());
+
+        assertEquals(-1, InstrumentedBinarySearch.find(numbers, 5, accumulator));
+        assertEquals(2, accumulator.getCalls());
+        assertEquals(3, accumulator.getProbes());
+    }
+
+    @Test
+    void testPrimitiveResultsMatchBinarySearch() {
+        int[] ints = {100, 200, 300, 400};
+        long[] longs = {1000L, 2000L, 3000L, 4000L};
+        double[] doubles = {0.1, 0.2, 0.5, 0.9};
+        float[] floats = {1.1f, 2.2f, Float.NaN};
+
+        assertEquals(1, InstrumentedBinarySearch.find(ints, 200, accumulator));
+        assertEquals(-1, InstrumentedBinarySearch.find(ints, 999, accumulator));
+        assertEquals(3, InstrumentedBinarySearch.find(longs, 4000L, accumulator));
+        assertEquals(2, InstrumentedBinarySearch.find(doubles, 0.5, accumulator));
+        assertEquals(2, InstrumentedBinarySearch.find(floats, Float.NaN, accumulator));
+
+        assertEquals(5, accumulator.getCalls());
+        assertEquals(0, accumulator.getSwaps());
+        assertEquals(accumulator.getProbes(), accumulator.getComparisons());
+    }
+
+    @Test
+    void testEveryTypeCountsTheSameComparisons() {
+        @NotNull MetricsAccumulator generic = new MetricsAccumulator();
+        @NotNull MetricsAccumulator ints = new MetricsAccumulator();
+        @NotNull MetricsAccumulator longs = new MetricsAccumulator();
+        @NotNull MetricsAccumulator doubles = new MetricsAccumulator();
+        @NotNull MetricsAccumulator floats = new MetricsAccumulator();
+
+        for (int key = 0; key <= 90; key += 5) {
+            InstrumentedBinarySearch.find(new Integer[]{10, 20, 30, 40, 50, 60, 70, 80}, key, generic);
+            InstrumentedBinarySearch.find(new int[]{10, 20, 30, 40, 50, 60, 70, 80}, key, ints);
+            InstrumentedBinarySearch.find(new long[]{10, 20, 30, 40, 50, 60, 70, 80}, key, longs);
+            InstrumentedBinarySearch.find(new double[]{10, 20, 30, 40, 50, 60, 70, 80}, key, doubles);
+            InstrumentedBinarySearch.find(new float[]{10, 20, 30, 40, 50, 60, 70, 80}, key, floats);
+        }
+
+        for (@NotNull MetricsAccumulator accumulator : new MetricsAccumulator[]{ints, longs, doubles, floats}) {
+            assertEquals(generic.getProbes(), accumulator.getProbes());
+            assertEquals(generic.getComparisons(), accumulator.getComparisons());
+        }
+        assertEquals(generic.getProbes(), generic.getComparisons());
+    }
+
+    @Test
+    void testEmptyArray() {
+        assertEquals(-1, InstrumentedBinarySearch.find(new int[0], 1, accumulator));
+        assertEquals(1, accumulator.getCalls());
+        assertEquals(0, accumulator.getProbes());
+    }
+}
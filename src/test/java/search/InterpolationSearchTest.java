@@ -0,0 +1,61 @@
+package search;
+
+import codes.matheus.search.BinarySearch;
+import codes.matheus.search.InterpolationSearch;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the interpolation search.
+ */
+public final class InterpolationSearchTest {
+    private final @NotNull Random random = new Random(31);
+
+    @Test
+    void testFindUniformTimestamps() {
+        long[] timestamps = new long[10_000];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = 1_700_000_000_000L + i * 1_000L + random.nextInt(500);
+        }
+
+        for (int i = 0; i < timestamps.length; i += 37) {
+            assertEquals(i, InterpolationSearch.find(timestamps, timestamps[i]));
+        }
+        assertEquals(-1, InterpolationSearch.find(timestamps, timestamps[5] + 1));
+        assertEquals(-1, InterpolationSearch.find(timestamps, 0L));
+        assertEquals(-1, InterpolationSearch.find(timestamps, Long.MAX_VALUE));
+    }
+
+    @Test
+    void testSkewedKeysMatchBinarySearch() {
+        int[] skewed = new int[20_000];
+        for (int i = 0; i < skewed.length; i++) {
+            skewed[i] = i < 19_990 ? i : Integer.MAX_VALUE - (skewed.length - i);
+        }
+        long[] extremes = {Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE};
+
+        for (int key : new int[]{0, 5, 19_989, 19_990, Integer.MAX_VALUE - 1, Integer.MAX_VALUE, -3}) {
+            int expected = BinarySearch.find(skewed, key);
+            int actual = InterpolationSearch.find(skewed, key);
+            assertEquals(expected < 0, actual < 0, "Key " + key);
+            if (actual >= 0) {
+                assertEquals(key, skewed[actual]);
+            }
+        }
+        for (int i = 0; i < extremes.length; i++) {
+            assertEquals(i, InterpolationSearch.find(extremes, extremes[i]));
+        }
+    }
+
+    @Test
+    void testDuplicatesAndEmpty() {
+        int[] equal = {7, 7, 7, 7};
+        assertEquals(7, equal[InterpolationSearch.find(equal, 7)]);
+        assertEquals(-1, InterpolationSearch.find(equal, 8));
+        assertEquals(-1, InterpolationSearch.find(new long[0], 1L));
+    }
+}
@@ -0,0 +1,67 @@
+package search;
+
+import codes.matheus.search.BinarySearch;
+import codes.matheus.search.LongLearnedIndex;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the learned (piecewise linear) search index.
+ */
+public final class LongLearnedIndexTest {
+    private final @NotNull Random random = new Random(41);
+
+    @Test
+    void testMatchesBinarySearchOnUniformKeys() {
+        long[] keys = new long[200_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i * 10L + random.nextInt(10);
+        }
+        @NotNull LongLearnedIndex index = new LongLearnedIndex(keys, 16);
+
+        assertTrue(index.segments() < keys.length / 100, "Uniform keys should need few segments: " + index.segments());
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(keys.length * 10 + 20) - 10;
+            assertEquals(BinarySearch.find(keys, key), index.find(key), "Key " + key);
+        }
+    }
+
+    @Test
+    void testSkewedKeysAndDuplicates() {
+        long[] keys = new long[50_000];
+        for (int i = 0; i < keys.length; i++) {
+            long value = (long) Math.pow(random.nextDouble(), 6) * Long.MAX_VALUE;
+            keys[i] = random.nextInt(8) == 0 ? Long.MIN_VALUE + random.nextInt(3) : value;
+        }
+        Arrays.sort(keys);
+        for (int i = 1_000; i < 6_000; i++) {
+            keys[i] = keys[1_000];
+        }
+        @NotNull LongLearnedIndex index = new LongLearnedIndex(keys, 4);
+
+        for (int i = 0; i < keys.length; i += 7) {
+            int position = index.find(keys[i]);
+            assertEquals(keys[i], keys[position]);
+            assertTrue(position == 0 || keys[position - 1] < keys[i], "Should be the first occurrence");
+            assertEquals(BinarySearch.lowerBound(keys, keys[i] + 1), index.lowerBound(keys[i] + 1));
+        }
+        assertEquals(BinarySearch.lowerBound(keys, Long.MAX_VALUE), index.lowerBound(Long.MAX_VALUE));
+        assertEquals(0, index.lowerBound(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testEmptyAndInvalid() {
+        @NotNull LongLearnedIndex empty = new LongLearnedIndex(new long[0]);
+        assertEquals(-1, empty.find(3L));
+        assertEquals(0, empty.segments());
+        assertEquals(0, new LongLearnedIndex(new long[]{5L}).find(5L));
+
+        assertThrows(IllegalArgumentException.class, () -> new LongLearnedIndex(new long[]{1L, 2L}, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LongLearnedIndex(new long[]{3L, 2L}));
+    }
+}
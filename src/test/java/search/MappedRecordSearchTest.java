@@ -0,0 +1,96 @@
+package search;
+
+import codes.matheus.search.BinarySearch;
+import codes.matheus.search.MappedRecordSearch;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the binary search over memory-mapped record files.
+ */
+public final class MappedRecordSearchTest {
+    private static final int RECORD_SIZE = 13;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testMatchesBinarySearchAcrossMappings() throws IOException {
+        @NotNull Random random = new Random(53);
+        long[] keys = new long[10_000];
+        long key = Long.MIN_VALUE / 2;
+        for (int i = 0; i < keys.length; i++) {
+            key += random.nextInt(3) * 2;
+            keys[i] = key;
+        }
+        @NotNull Path file = write(keys, 3);
+
+        // 1000 bytes hold 76 records, so the file is spread over 132 mappings
+        @NotNull MappedRecordSearch search = new MappedRecordSearch(file, RECORD_SIZE, 3, Long.BYTES, 1_000);
+
+        assertEquals(keys.length, search.size());
+        for (int i = 0; i < 5_000; i++) {
+            long probe = keys[random.nextInt(keys.length)] + random.nextInt(2);
+            long record = search.find(probe);
+            if (BinarySearch.find(keys, probe) < 0) {
+                assertEquals(-1, record);
+            } else {
+                assertEquals(BinarySearch.lowerBound(keys, probe), record);
+            }
+            assertEquals(BinarySearch.lowerBound(keys, probe), search.lowerBound(probe));
+        }
+        assertEquals(-1, search.find(Long.MIN_VALUE));
+        assertEquals(keys.length, search.lowerBound(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testNarrowKeysAndRecordView() throws IOException {
+        byte[] data = {-128, 'e', -3, 'b', 0, 'c', 5, 'a', 127, 'd'};
+        @NotNull Path file = directory.resolve("narrow.bin");
+        Files.write(file, data);
+
+        @NotNull MappedRecordSearch search = new MappedRecordSearch(file, 2, 0, 1);
+
+        assertEquals(1, search.find(-3));
+        assertEquals(-1, search.find(4));
+        assertEquals(-128, search.key(0));
+        @NotNull ByteBuffer record = search.record(3);
+        assertEquals(2, record.remaining());
+        assertEquals(5, record.get(0));
+        assertEquals('a', record.get(1));
+        assertTrue(record.isReadOnly());
+    }
+
+    @Test
+    void testInvalidFiles() throws IOException {
+        @NotNull Path empty = directory.resolve("empty.bin");
+        @NotNull Path partial = directory.resolve("partial.bin");
+        Files.write(empty, new byte[0]);
+        Files.write(partial, new byte[RECORD_SIZE + 1]);
+
+        assertEquals(-1, new MappedRecordSearch(empty, RECORD_SIZE, 0, Long.BYTES).find(0));
+        assertThrows(IllegalArgumentException.class, () -> new MappedRecordSearch(partial, RECORD_SIZE, 0, Long.BYTES));
+        assertThrows(IllegalArgumentException.class, () -> new MappedRecordSearch(empty, RECORD_SIZE, 8, Long.BYTES));
+        assertThrows(IllegalArgumentException.class, () -> new MappedRecordSearch(empty, RECORD_SIZE, 0, Long.BYTES, 12));
+    }
+
+    private @NotNull Path write(long @NotNull [] keys, int keyOffset) throws IOException {
+        @NotNull ByteBuffer data = ByteBuffer.allocate(keys.length * RECORD_SIZE);
+        for (int i = 0; i < keys.length; i++) {
+            data.position(i * RECORD_SIZE + keyOffset);
+            data.putLong(keys[i]);
+        }
+        @NotNull Path file = directory.resolve("records.bin");
+        Files.write(file, data.array());
+        return file;
+    }
+}
@@ -0,0 +1,92 @@
+package search;
+
+import codes.matheus.search.BinarySearch;
+import codes.matheus.search.SimdSearch;
+import jdk.incubator.vector.IntVector;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the SIMD searches; the build runs them with and without the Vector API module.
+ */
+public final class SimdSearchTest {
+    private final @NotNull Random random = new Random(61);
+
+    @Test
+    void testRunsOnTheExpectedPath() {
+        // each surefire execution states whether it enables the Vector API module, so a misconfigured run fails
+        // instead of passing on the other path; without vector registers the fallback is expected either way
+        @Nullable String expected = System.getProperty("simd.expectVectorModule");
+        assumeTrue(expected != null, "simd.expectVectorModule is not set");
+
+        boolean module = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        assertEquals(Boolean.parseBoolean(expected), module);
+        assertEquals(module && preferredVectorBits() >= 128, SimdSearch.isVectorized());
+    }
+
+    @Test
+    void testIntAndLongMatchBinarySearch() {
+        for (int size : new int[]{0, 1, 7, 16, 63, 64, 65, 1_000, 100_003}) {
+            int[] ints = random.ints(size, -5_000, 5_000).sorted().toArray();
+            long[] longs = random.longs(size, Long.MIN_VALUE / 2, Long.MAX_VALUE / 2).sorted().toArray();
+
+            for (int i = 0; i < 2_000; i++) {
+                int intKey = random.nextInt(10_010) - 5_005;
+                long longKey = size > 0 && random.nextBoolean() ? longs[random.nextInt(size)] : random.nextLong();
+
+                assertEquals(BinarySearch.lowerBound(ints, intKey), SimdSearch.lowerBound(ints, intKey));
+                assertEquals(expected(ints, intKey), SimdSearch.find(ints, intKey));
+                assertEquals(expected(ints, intKey), SimdSearch.findKAry(ints, intKey));
+                int longIndex = BinarySearch.lowerBound(longs, longKey);
+                int expectedLong = longIndex < size && longs[longIndex] == longKey ? longIndex : -1;
+                assertEquals(longIndex, SimdSearch.lowerBound(longs, longKey));
+                assertEquals(expectedLong, SimdSearch.find(longs, longKey));
+                assertEquals(expectedLong, SimdSearch.findKAry(longs, longKey));
+            }
+        }
+    }
+
+    @Test
+    void testFloatingPointFollowsCompareOrder() {
+        double[] doubles = new double[10_000];
+        for (int i = 0; i < doubles.length; i++) {
+            int pick = random.nextInt(40);
+            doubles[i] = pick == 0 ? Double.NaN : pick == 1 ? -0.0 : pick == 2 ? 0.0 : random.nextGaussian();
+        }
+        Arrays.sort(doubles);
+        float[] floats = new float[doubles.length];
+        for (int i = 0; i < floats.length; i++) {
+            floats[i] = (float) doubles[i];
+        }
+
+        for (double key : new double[]{Double.NaN, -0.0, 0.0, -1.0, 1.0, Double.NEGATIVE_INFINITY, doubles[1_234], doubles[9_000]}) {
+            int doubleIndex = BinarySearch.lowerBound(doubles, key);
+            int expectedDouble = doubleIndex < doubles.length && Double.compare(doubles[doubleIndex], key) == 0 ? doubleIndex : -1;
+            int floatIndex = BinarySearch.lowerBound(floats, (float) key);
+            int expectedFloat = floatIndex < floats.length && Float.compare(floats[floatIndex], (float) key) == 0 ? floatIndex : -1;
+
+            assertEquals(doubleIndex, SimdSearch.lowerBound(doubles, key), "Key " + key);
+            assertEquals(expectedDouble, SimdSearch.find(doubles, key), "Key " + key);
+            assertEquals(expectedDouble, SimdSearch.findKAry(doubles, key), "Key " + key);
+            assertEquals(floatIndex, SimdSearch.lowerBound(floats, (float) key), "Key " + key);
+            assertEquals(expectedFloat, SimdSearch.find(floats, (float) key), "Key " + key);
+            assertEquals(expectedFloat, SimdSearch.findKAry(floats, (float) key), "Key " + key);
+        }
+    }
+
+    private static int preferredVectorBits() {
+        return IntVector.SPECIES_PREFERRED.vectorBitSize();
+    }
+
+    private static int expected(int @NotNull [] array, int key) {
+        int index = BinarySearch.lowerBound(array, key);
+        return index < array.length && array[index] == key ? index : -1;
+    }
+}
@@ -0,0 +1,75 @@
+package sort;
+
+import codes.matheus.sort.ArgSort;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ArgSortTest {
+    @Test
+    void testPrimitivePermutation() {
+        int[] keys = {30, 10, 20, 10};
+
+        assertArrayEquals(new int[]{1, 3, 2, 0}, ArgSort.sort(keys));
+        assertArrayEquals(new int[]{30, 10, 20, 10}, keys, "Keys must not be moved");
+        assertArrayEquals(new int[]{2, 0, 1}, ArgSort.sort(new long[]{5L, Long.MAX_VALUE, Long.MIN_VALUE}));
+    }
+
+    @Test
+    void testFloatingPointOrder() {
+        double[] doubles = {Double.NaN, 0.0, -0.0, -1.5, Double.POSITIVE_INFINITY};
+        float[] floats = {0.0f, Float.NaN, -0.0f, Float.NEGATIVE_INFINITY};
+
+        assertArrayEquals(new int[]{3, 2, 1, 4, 0}, ArgSort.sort(doubles));
+        assertArrayEquals(new int[]{3, 2, 0, 1}, ArgSort.sort(floats));
+    }
+
+    @Test
+    void testGenericAndComparator() {
+        @NotNull String[] names = {"Driver", "Bus", "Moto", "Car"};
+
+        assertArrayEquals(new int[]{1, 3, 0, 2}, ArgSort.sort(names));
+        assertArrayEquals(new int[]{2, 0, 3, 1}, ArgSort.sort(names, Comparator.reverseOrder()));
+    }
+
+    @Test
+    void testApplyToParallelColumns() {
+        @NotNull Random random = new Random(21);
+        int n = 10_000;
+        long[] timestamps = random.longs(n, 0, 1_000).toArray();
+        int[] ids = new int[n];
+        @NotNull String[] labels = new String[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+            labels[i] = "row-" + i;
+        }
+        long[] expected = timestamps.clone();
+        Arrays.sort(expected);
+
+        int[] permutation = ArgSort.sort(timestamps);
+        int[] copy = permutation.clone();
+        ArgSort.apply(permutation, timestamps, ids, labels);
+
+        assertArrayEquals(copy, permutation, "The permutation must be left untouched");
+        assertArrayEquals(expected, timestamps);
+        assertArrayEquals(permutation, ids);
+        for (int i = 0; i < n; i++) {
+            assertEquals("row-" + ids[i], labels[i]);
+            if (i > 0 && timestamps[i - 1] == timestamps[i]) {
+                assertTrue(ids[i - 1] < ids[i], "Equal keys must keep their original order");
+            }
+        }
+    }
+
+    @Test
+    void testApplyRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.apply(new int[]{0, 0}, (Object) new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.apply(new int[]{1, 0}, (Object) new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> ArgSort.apply(new int[]{1, 0}, "not an array"));
+    }
+}
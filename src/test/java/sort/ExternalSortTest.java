@@ -0,0 +1,137 @@
+package sort;
+
+import codes.matheus.sort.ExternalSort;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ExternalSortTest {
+    private static final int RECORD_SIZE = 16;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testSortsAcrossManyRunsAndPasses() throws IOException {
+        int count = 100_000;
+        @NotNull Random random = new Random(9);
+        @NotNull ByteBuffer data = ByteBuffer.allocate(count * RECORD_SIZE);
+        long[] expectedKeys = new long[count];
+        for (int i = 0; i < count; i++) {
+            long key = random.nextInt(5_000) - 2_500;
+            expectedKeys[i] = key;
+            data.putInt(i).putLong(key).putInt(~i);
+        }
+        Arrays.sort(expectedKeys);
+
+        @NotNull Path input = directory.resolve("input.bin");
+        @NotNull Path output = directory.resolve("output.bin");
+        Files.write(input, data.array());
+
+        new ExternalSort(RECORD_SIZE, 4, Long.BYTES, 100_000, directory).sort(input, output);
+
+        @NotNull ByteBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(output));
+        assertEquals(count * RECORD_SIZE, sorted.capacity());
+
+        long previousKey = Long.MIN_VALUE;
+        int previousOrder = -1;
+        for (int i = 0; i < count; i++) {
+            int order = sorted.getInt();
+            long key = sorted.getLong();
+            assertEquals(~order, sorted.getInt(), "Record payload must travel with its key");
+            assertEquals(expectedKeys[i], key);
+            if (key == previousKey) {
+                assertTrue(previousOrder < order, "Equal keys must keep their input order");
+            }
+            previousKey = key;
+            previousOrder = order;
+        }
+
+        try (@NotNull Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count(), "Temporary runs should be deleted");
+        }
+    }
+
+    @Test
+    void testNarrowSignedKey() throws IOException {
+        byte[] data = {5, 'a', -3, 'b', 0, 'c', 127, 'd', -128, 'e'};
+        @NotNull Path input = directory.resolve("input.bin");
+        @NotNull Path output = directory.resolve("output.bin");
+        Files.write(input, data);
+
+        new ExternalSort(2, 0, 1, 1 << 20, directory).sort(input, output);
+
+        assertArrayEquals(new byte[]{-128, 'e', -3, 'b', 0, 'c', 5, 'a', 127, 'd'}, Files.readAllBytes(output));
+    }
+
+    @Test
+    void testEmptyInput() throws IOException {
+        @NotNull Path input = directory.resolve("input.bin");
+        @NotNull Path output = directory.resolve("output.bin");
+        Files.write(input, new byte[0]);
+
+        new ExternalSort(RECORD_SIZE, 0, Long.BYTES, 1 << 20, directory).sort(input, output);
+
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    void testInvalidConfiguration() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort(4, 0, Long.BYTES, 1 << 20, directory));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort(RECORD_SIZE, 0, Long.BYTES, 1_000, directory));
+
+        @NotNull Path input = directory.resolve("input.bin");
+        Files.write(input, new byte[RECORD_SIZE + 1]);
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExternalSort(RECORD_SIZE, 0, Long.BYTES, 1 << 20, directory).sort(input, directory.resolve("output.bin")));
+    }
+
+    @Test
+    void testFailedMergePassDeletesItsRuns() throws IOException {
+        int count = 50_000;
+        @NotNull ByteBuffer data = ByteBuffer.allocate(count * RECORD_SIZE);
+        @NotNull Random random = new Random(5);
+        for (int i = 0; i < count; i++) {
+            data.putInt(i).putLong(random.nextLong()).putInt(i);
+        }
+        @NotNull Path input = directory.resolve("input.bin");
+        @NotNull Path spill = Files.createDirectory(directory.resolve("spill"));
+        Files.write(input, data.array());
+
+        // the first run is only deleted once an intermediate pass has merged it, so the next run file
+        // requested after that is the second merged run of that pass: fail there
+        @NotNull List<Path> created = new ArrayList<>();
+        @NotNull ExternalSort.RunFiles failing = () -> {
+            if (!created.isEmpty() && !Files.exists(created.get(0))) {
+                throw new IOException("injected failure");
+            }
+            @NotNull Path run = Files.createTempFile(spill, "run-", ".bin");
+            created.add(run);
+            return run;
+        };
+        @NotNull ExternalSort sort = new ExternalSort(RECORD_SIZE, 4, Long.BYTES, 100_000, failing);
+
+        @NotNull IOException failure = assertThrows(IOException.class, () -> sort.sort(input, directory.resolve("output.bin")));
+        assertEquals("injected failure", failure.getMessage());
+        assertTrue(created.size() > 2, "The failure should come after the first merged run");
+        assertEquals(0, countFiles(spill), "Runs of the failed pass should be deleted");
+    }
+
+    private static long countFiles(@NotNull Path directory) throws IOException {
+        try (@NotNull Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package sort;
+
+import codes.matheus.metrics.MetricsAccumulator;
+import codes.matheus.metrics.OperationMetrics;
+import codes.matheus.sort.InstrumentedSelectionSort;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class InstrumentedSelectionSortTest {
+    @Test
+    void testCountsComparisonsAndSwaps() {
+        @NotNull Integer[] array = {8, 11, 9, 3, 10};
+        @NotNull List<OperationMetrics> recorded = new ArrayList<>();
+
+        InstrumentedSelectionSort.sort(array, recorded::add);
+
+        assertArrayEquals(new Integer[]{3, 8, 9, 10, 11}, array);
+        assertEquals(1, recorded.size());
+        @NotNull OperationMetrics metrics = recorded.get(0);
+        assertEquals("SelectionSort.sort", metrics.getOperation());
+        assertEquals(10, metrics.getComparisons(), "Selection sort always does n(n - 1) / 2 comparisons");
+        assertEquals(3, metrics.getSwaps());
+        assertEquals(0, metrics.getProbes());
+        assertTrue(metrics.getElapsedNanos() >= 0);
+    }
+
+    @Test
+    void testSortedInputHasNoSwaps() {
+        @NotNull Integer[] array = {1, 2, 3, 4};
+        @NotNull MetricsAccumulator accumulator = new MetricsAccumulator();
+
+        InstrumentedSelectionSort.sort(array, accumulator);
+        InstrumentedSelectionSort.sort(new Integer[0], accumulator);
+
+        assertEquals(2, accumulator.getCalls());
+        assertEquals(6, accumulator.getComparisons());
+        assertEquals(0, accumulator.getSwaps());
+
+        accumulator.reset();
+        assertEquals(0, accumulator.getCalls());
+    }
+}
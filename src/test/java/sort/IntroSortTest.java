@@ -0,0 +1,138 @@
+package sort;
+
+import codes.matheus.search.BinarySearch;
+import codes.matheus.sort.IntroSort;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class IntroSortTest {
+    private final @NotNull Random random = new Random(7);
+
+    @Test
+    void testSortingInt() {
+        int[] array = {8, 11, 9, 3, 10, -4, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        int[] expected = {Integer.MIN_VALUE, -4, 3, 8, 9, 10, 11, Integer.MAX_VALUE};
+
+        IntroSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testEmptyAndSingle() {
+        int[] empty = {};
+        long[] single = {1L};
+
+        IntroSort.sort(empty);
+        IntroSort.sort(single);
+
+        assertEquals(0, empty.length);
+        assertEquals(1L, single[0]);
+    }
+
+    @Test
+    void testSortingRange() {
+        int[] array = {9, 8, 7, 6, 5, 4, 3};
+        double[] doubles = {Double.NaN, 2.0, 0.0, Double.NaN, -0.0, 1.0, -5.0};
+
+        IntroSort.sort(array, 2, 6);
+        IntroSort.sort(doubles, 1, 5);
+
+        assertArrayEquals(new int[]{9, 8, 4, 5, 6, 7, 3}, array);
+        assertArrayEquals(new double[]{Double.NaN, -0.0, 0.0, 2.0, Double.NaN, 1.0, -5.0}, doubles);
+    }
+
+    @Test
+    void testRandomIntAndLong() {
+        int[] ints = random.ints(50_000, -1000, 1000).toArray();
+        long[] longs = random.longs(50_000).toArray();
+        int[] expectedInts = ints.clone();
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedInts);
+        Arrays.sort(expectedLongs);
+
+        IntroSort.sort(ints);
+        IntroSort.sort(longs);
+
+        assertArrayEquals(expectedInts, ints);
+        assertArrayEquals(expectedLongs, longs);
+    }
+
+    @Test
+    void testAdversarialInputs() {
+        int[] sorted = new int[20_000];
+        int[] reversed = new int[20_000];
+        int[] equal = new int[20_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            reversed[i] = sorted.length - i;
+            equal[i] = 5;
+        }
+        int[] organPipe = new int[20_000];
+        for (int i = 0; i < organPipe.length; i++) {
+            organPipe[i] = i < organPipe.length / 2 ? i : organPipe.length - i;
+        }
+
+        for (int[] array : new int[][]{sorted, reversed, equal, organPipe}) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            IntroSort.sort(array);
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    void testDoubleSpecialValues() {
+        double[] array = {Double.NaN, 0.0, 1.5, -0.0, Double.NEGATIVE_INFINITY, 0.0, Double.NaN, -0.0, -2.5, Double.POSITIVE_INFINITY};
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+
+        IntroSort.sort(array);
+
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(0, Double.compare(expected[i], array[i]), "Mismatch at index " + i);
+        }
+        int negativeZero = BinarySearch.find(array, -0.0);
+        assertTrue(negativeZero == 2 || negativeZero == 3, "-0.0 should be found before 0.0");
+        assertTrue(BinarySearch.find(array, Double.NaN) >= 8, "NaN should be found at the end");
+    }
+
+    @Test
+    void testFloatSpecialValues() {
+        float[] array = {Float.NaN, 0.0f, -0.0f, 3.5f, -1.0f, -0.0f, 0.0f};
+        float[] expected = array.clone();
+        Arrays.sort(expected);
+
+        IntroSort.sort(array);
+
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(0, Float.compare(expected[i], array[i]), "Mismatch at index " + i);
+        }
+        assertEquals(6, BinarySearch.find(array, Float.NaN));
+    }
+
+    @Test
+    void testRandomDoublesMatchDoubleCompare() {
+        double[] array = new double[30_000];
+        for (int i = 0; i < array.length; i++) {
+            int pick = random.nextInt(20);
+            array[i] = pick == 0 ? Double.NaN : pick == 1 ? -0.0 : pick == 2 ? 0.0 : random.nextGaussian();
+        }
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+
+        IntroSort.sort(array);
+
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(0, Double.compare(expected[i], array[i]), "Mismatch at index " + i);
+        }
+        for (int i = 0; i < array.length; i += 997) {
+            int index = BinarySearch.find(array, array[i]);
+            assertEquals(0, Double.compare(array[i], array[index]));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package sort;
+
+import codes.matheus.sort.KeySort;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class KeySortTest {
+    @Test
+    void testSortByLongKey() {
+        @NotNull Record[] array = {new Record("c", 30L), new Record("a", 10L), new Record("b", 20L)};
+
+        KeySort.sortByLongKey(array, Record::timestamp);
+
+        assertEquals("a", array[0].name());
+        assertEquals("b", array[1].name());
+        assertEquals("c", array[2].name());
+    }
+
+    @Test
+    void testSortByComparableKey() {
+        @NotNull Record[] array = {new Record("Moto", 1L), new Record("Bus", 2L), new Record("Car", 3L)};
+
+        KeySort.sortByKey(array, Record::name);
+
+        assertEquals("Bus", array[0].name());
+        assertEquals("Car", array[1].name());
+        assertEquals("Moto", array[2].name());
+    }
+
+    @Test
+    void testEmptyAndSingle() {
+        @NotNull Record[] empty = {};
+        @NotNull Record[] single = {new Record("a", 1L)};
+
+        KeySort.sortByLongKey(empty, Record::timestamp);
+        KeySort.sortByKey(single, Record::name);
+
+        assertEquals(0, empty.length);
+        assertEquals("a", single[0].name());
+    }
+
+    @Test
+    void testKeyExtractedOncePerElement() {
+        @NotNull Random random = new Random(5);
+        @NotNull Record[] array = new Record[10_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = new Record(Integer.toString(i), random.nextLong());
+        }
+        @NotNull Record[] expected = array.clone();
+        Arrays.sort(expected, Comparator.comparingLong(Record::timestamp));
+
+        @NotNull int[] calls = new int[1];
+        KeySort.sortByLongKey(array, record -> {
+            calls[0]++;
+            return record.timestamp();
+        });
+
+        assertEquals(array.length, calls[0]);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testStability() {
+        @NotNull Record[] array = new Record[5_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = new Record(String.format("%05d", i), i % 13);
+        }
+
+        KeySort.sortByLongKey(array, Record::timestamp);
+
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i - 1].timestamp() <= array[i].timestamp());
+            if (array[i - 1].timestamp() == array[i].timestamp()) {
+                assertTrue(array[i - 1].name().compareTo(array[i].name()) < 0, "Equal keys must keep their original order");
+            }
+        }
+    }
+
+    private record Record(@NotNull String name, long timestamp) {
+    }
+}
@@ -0,0 +1,105 @@
+package sort;
+
+import codes.matheus.sort.ParallelMergeSort;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ParallelMergeSortTest {
+    @Test
+    void testSortingInteger() {
+        @NotNull Integer[] array = {8, 11, 9, 3, 10};
+        @NotNull Integer[] expected = {3, 8, 9, 10, 11};
+
+        ParallelMergeSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testSortingString() {
+        @NotNull String[] array = {"Driver", "Bus", "Moto", "Car"};
+        @NotNull String[] expected = {"Bus", "Car", "Driver", "Moto"};
+
+        ParallelMergeSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testEmptyAndSingle() {
+        @NotNull Integer[] empty = {};
+        @NotNull Integer[] single = {1};
+
+        ParallelMergeSort.sort(empty);
+        ParallelMergeSort.sort(single);
+
+        assertEquals(0, empty.length);
+        assertEquals(1, single[0]);
+    }
+
+    @Test
+    void testLargeArrayWithSmallCutoff() {
+        @NotNull Random random = new Random(42);
+        @NotNull Integer[] array = new Integer[100_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(1000);
+        }
+        @NotNull Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        ParallelMergeSort.sort(array, 64);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testReusableBuffer() {
+        @NotNull Integer[] buffer = new Integer[10];
+        @NotNull ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            @NotNull Integer[] first = {5, 4, 3, 2, 1, 0, 9, 8, 7, 6};
+            @NotNull Integer[] second = {1, 3, 2};
+
+            ParallelMergeSort.sort(first, buffer, 2, pool);
+            ParallelMergeSort.sort(second, buffer, 2, pool);
+
+            assertArrayEquals(new Integer[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, first);
+            assertArrayEquals(new Integer[]{1, 2, 3}, second);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testStability() {
+        @NotNull Entry[] array = new Entry[2_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = new Entry(i % 7, i);
+        }
+
+        ParallelMergeSort.sort(array, 100);
+
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1].key == array[i].key) {
+                assertTrue(array[i - 1].order < array[i].order, "Equal keys must keep their original order");
+            }
+        }
+    }
+
+    @Test
+    void testBufferTooSmall() {
+        @NotNull Integer[] array = {3, 2, 1};
+        assertThrows(IllegalArgumentException.class,
+                () -> ParallelMergeSort.sort(array, new Integer[1], 1, ForkJoinPool.commonPool()));
+    }
+
+    private record Entry(int key, int order) implements Comparable<Entry> {
+        @Override
+        public int compareTo(@NotNull Entry other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package sort;
+
+import codes.matheus.sort.RadixSort;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class RadixSortTest {
+    private final @NotNull Random random = new Random(11);
+
+    @Test
+    void testSortingSmallInt() {
+        int[] array = {8, 11, 9, 3, 10, -4};
+        int[] expected = {-4, 3, 8, 9, 10, 11};
+
+        RadixSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testEmptyAndSingle() {
+        int[] empty = {};
+        long[] single = {1L};
+
+        RadixSort.sort(empty);
+        RadixSort.sort(single);
+
+        assertEquals(0, empty.length);
+        assertEquals(1L, single[0]);
+    }
+
+    @Test
+    void testSignedInt() {
+        int[] array = random.ints(100_000).toArray();
+        array[0] = Integer.MIN_VALUE;
+        array[1] = Integer.MAX_VALUE;
+        array[2] = 0;
+        array[3] = -1;
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testSignedLong() {
+        long[] array = random.longs(100_000).toArray();
+        array[0] = Long.MIN_VALUE;
+        array[1] = Long.MAX_VALUE;
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testNarrowKeysSkipPasses() {
+        long base = 1_700_000_000_000L;
+        long[] timestamps = new long[10_000];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = base + random.nextInt(200);
+        }
+        long[] expected = timestamps.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(timestamps);
+        assertArrayEquals(expected, timestamps);
+    }
+
+    @Test
+    void testReusableBuffer() {
+        int[] buffer = new int[1_000];
+        int[] first = random.ints(1_000).toArray();
+        int[] second = random.ints(500, -10, 10).toArray();
+        int[] expectedFirst = first.clone();
+        int[] expectedSecond = second.clone();
+        Arrays.sort(expectedFirst);
+        Arrays.sort(expectedSecond);
+
+        RadixSort.sort(first, buffer);
+        RadixSort.sort(second, buffer);
+
+        assertArrayEquals(expectedFirst, first);
+        assertArrayEquals(expectedSecond, second);
+        assertThrows(IllegalArgumentException.class, () -> RadixSort.sort(new int[10], new int[5]));
+    }
+}
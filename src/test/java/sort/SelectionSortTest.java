@@ -4,6 +4,8 @@ import codes.matheus.sort.SelectionSort;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public final class SelectionSortTest {
@@ -46,4 +48,13 @@ public final class SelectionSortTest {
 
         assertArrayEquals(expected, array);
     }
+
+    @Test
+    void testSortingWithComparator() {
+        @NotNull String[] array = {"Driver", "Bus", "Moto", "Car"};
+        @NotNull String[] expected = {"Moto", "Driver", "Car", "Bus"};
+
+        SelectionSort.sort(array, Comparator.reverseOrder());
+        assertArrayEquals(expected, array);
+    }
 }
@@ -0,0 +1,100 @@
+package sort;
+
+import codes.matheus.sort.Selection;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class SelectionTest {
+    private final @NotNull Random random = new Random(17);
+
+    @Test
+    void testSelectMedian() {
+        @NotNull Integer[] array = {8, 11, 9, 3, 10};
+        assertEquals(9, Selection.select(array, 2));
+        assertEquals(3, Selection.select(array, 0));
+        assertEquals(11, Selection.select(array, 4));
+    }
+
+    @Test
+    void testSelectPartitionsAroundRank() {
+        int[] array = random.ints(10_000, 0, 500).toArray();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        for (int k : new int[]{0, 1, 17, 4_999, 9_998, 9_999}) {
+            int[] copy = array.clone();
+            assertEquals(sorted[k], Selection.select(copy, k));
+            for (int i = 0; i < k; i++) {
+                assertTrue(copy[i] <= copy[k]);
+            }
+            for (int i = k + 1; i < copy.length; i++) {
+                assertTrue(copy[i] >= copy[k]);
+            }
+        }
+    }
+
+    @Test
+    void testTopKPrimitives() {
+        long[] longs = random.longs(20_000).toArray();
+        long[] sortedLongs = longs.clone();
+        Arrays.sort(sortedLongs);
+
+        Selection.topK(longs, 100);
+        assertArrayEquals(Arrays.copyOf(sortedLongs, 100), Arrays.copyOf(longs, 100));
+
+        float[] floats = {3.0f, Float.NaN, -0.0f, 0.0f, -1.0f};
+        Selection.topK(floats, 5);
+        assertArrayEquals(new float[]{-1.0f, -0.0f, 0.0f, 3.0f, Float.NaN}, floats);
+    }
+
+    @Test
+    void testSelectDoubleUsesDoubleCompareOrder() {
+        double[] array = {Double.NaN, 0.0, -0.0, 2.0, Double.NEGATIVE_INFINITY};
+        assertEquals(0, Double.compare(-0.0, Selection.select(array.clone(), 1)));
+        assertEquals(0, Double.compare(0.0, Selection.select(array.clone(), 2)));
+        assertTrue(Double.isNaN(Selection.select(array.clone(), 4)));
+        assertEquals(Double.NEGATIVE_INFINITY, Selection.select(array.clone(), 0));
+    }
+
+    @Test
+    void testTopKGenericWithComparator() {
+        @NotNull Integer[] array = new Integer[5_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(1_000);
+        }
+        @NotNull Integer[] sorted = array.clone();
+        Arrays.sort(sorted, Comparator.reverseOrder());
+
+        Selection.topK(array, 50, Comparator.reverseOrder());
+        assertArrayEquals(Arrays.copyOf(sorted, 50), Arrays.copyOf(array, 50));
+    }
+
+    @Test
+    void testAdversarialInput() {
+        int[] equal = new int[50_000];
+        Arrays.fill(equal, 7);
+        assertEquals(7, Selection.select(equal, 25_000));
+
+        int[] sorted = new int[50_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        assertEquals(12_345, Selection.select(sorted, 12_345));
+    }
+
+    @Test
+    void testInvalidRank() {
+        int[] array = {1, 2, 3};
+        assertThrows(IllegalArgumentException.class, () -> Selection.select(array, 3));
+        assertThrows(IllegalArgumentException.class, () -> Selection.topK(array, 4));
+        Selection.topK(array, 0);
+        Selection.topK(array, 3);
+        assertArrayEquals(new int[]{1, 2, 3}, array);
+    }
+}
@@ -0,0 +1,179 @@
+package sort;
+
+import codes.matheus.sort.TimSort;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class TimSortTest {
+    private final @NotNull Random random = new Random(3);
+
+    @Test
+    void testSortingInteger() {
+        @NotNull Integer[] array = {8, 11, 9, 3, 10};
+        @NotNull Integer[] expected = {3, 8, 9, 10, 11};
+
+        TimSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testSortingWithComparator() {
+        @NotNull Integer[] array = new Integer[1_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(100);
+        }
+        @NotNull Integer[] expected = array.clone();
+        Arrays.sort(expected, Comparator.reverseOrder());
+
+        TimSort.sort(array, Comparator.reverseOrder());
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testEmptyAndSingle() {
+        @NotNull Integer[] empty = {};
+        @NotNull Integer[] single = {1};
+
+        TimSort.sort(empty);
+        TimSort.sort(single);
+
+        assertEquals(0, empty.length);
+        assertEquals(1, single[0]);
+    }
+
+    @Test
+    void testMatchesArraysSortForManyShapes() {
+        for (int length = 0; length < 600; length += 7) {
+            for (int bound : new int[]{3, 1_000}) {
+                @NotNull Integer[] array = new Integer[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = random.nextInt(4) == 0 ? random.nextInt(bound) : i / 3 * (i % 2 == 0 ? 1 : -1);
+                }
+                @NotNull Integer[] expected = array.clone();
+                Arrays.sort(expected);
+
+                TimSort.sort(array);
+                assertArrayEquals(expected, array, "length " + length + ", bound " + bound);
+            }
+        }
+    }
+
+    @Test
+    void testRandomLarge() {
+        @NotNull Integer[] array = new Integer[200_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(10_000);
+        }
+        @NotNull Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        TimSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testInterleavedRuns() {
+        @NotNull Integer[] array = new Integer[100_000];
+        int index = 0;
+        while (index < array.length) {
+            int runLength = Math.min(array.length - index, 1 + random.nextInt(5_000));
+            int start = random.nextInt(100_000);
+            boolean descending = random.nextBoolean();
+            for (int i = 0; i < runLength; i++) {
+                array[index++] = descending ? start - i : start + i;
+            }
+        }
+        @NotNull Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        TimSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testStability() {
+        @NotNull Counted[] array = new Counted[50_000];
+        @NotNull int[] counter = new int[1];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = new Counted(random.nextInt(50), i, counter);
+        }
+
+        TimSort.sort(array);
+
+        for (int i = 1; i < array.length; i++) {
+            assertTrue(array[i - 1].value <= array[i].value);
+            if (array[i - 1].value == array[i].value) {
+                assertTrue(array[i - 1].order < array[i].order, "Equal keys must keep their original order");
+            }
+        }
+    }
+
+    @Test
+    void testSortedInputIsLinear() {
+        int n = 100_000;
+        @NotNull int[] counter = new int[1];
+        @NotNull Counted[] ascending = new Counted[n];
+        @NotNull Counted[] descending = new Counted[n];
+        for (int i = 0; i < n; i++) {
+            ascending[i] = new Counted(i, i, counter);
+            descending[i] = new Counted(n - i, i, counter);
+        }
+
+        TimSort.sort(ascending);
+        assertEquals(n - 1, counter[0], "Sorted input should need exactly n - 1 comparisons");
+
+        counter[0] = 0;
+        TimSort.sort(descending);
+        assertEquals(n - 1, counter[0], "Strictly descending input should need exactly n - 1 comparisons");
+        assertEquals(1, descending[0].value);
+    }
+
+    @Test
+    void testNearlySortedIsAdaptive() {
+        int n = 100_000;
+        @NotNull int[] counter = new int[1];
+        @NotNull Counted[] array = new Counted[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = new Counted(i, i, counter);
+        }
+        for (int i = 0; i < 20; i++) {
+            int j = random.nextInt(n);
+            int k = random.nextInt(n);
+            @NotNull Counted temp = array[j];
+            array[j] = array[k];
+            array[k] = temp;
+        }
+
+        TimSort.sort(array);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, array[i].value);
+        }
+        double nLogN = n * (Math.log(n) / Math.log(2));
+        assertTrue(counter[0] < nLogN / 4, "Nearly sorted input used " + counter[0] + " comparisons");
+    }
+
+    private static final class Counted implements Comparable<Counted> {
+        private final int value;
+        private final int order;
+        private final @NotNull int[] counter;
+
+        private Counted(int value, int order, @NotNull int[] counter) {
+            this.value = value;
+            this.order = order;
+            this.counter = counter;
+        }
+
+        @Override
+        public int compareTo(@NotNull Counted other) {
+            counter[0]++;
+            return Integer.compare(value, other.value);
+        }
+    }
+}